@@ -0,0 +1,39 @@
+package com.modernization.banking.benchmark;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar
+ *
+ * Accepts the standard JMH command line and always enables the GC profiler,
+ * so every run reports allocation rate ({@code gc.alloc.rate.norm}) and GC
+ * counts next to the timings.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        var commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListWithParams()
+                || commandLine.shouldListProfilers() || commandLine.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+
+        var options = new OptionsBuilder().parent(commandLine);
+        var gcRequested = commandLine.getProfilers().stream()
+                .anyMatch(profiler -> "gc".equals(profiler.getKlass())
+                        || GCProfiler.class.getName().equals(profiler.getKlass()));
+        if (!gcRequested) {
+            options.addProfiler(GCProfiler.class);
+        }
+
+        new Runner(options.build()).run();
+    }
+}
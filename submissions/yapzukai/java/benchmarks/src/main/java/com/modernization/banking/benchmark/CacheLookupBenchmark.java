@@ -0,0 +1,82 @@
+package com.modernization.banking.benchmark;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.modernization.banking.auth.AuthenticationManager;
+import com.modernization.banking.client.ModernBankingClient;
+import com.modernization.banking.config.BankingClientConfiguration;
+import com.modernization.banking.exception.BankingClientException;
+import com.modernization.banking.model.AccountValidationResult;
+import com.modernization.banking.stub.StubBankingServer;
+
+/**
+ * Warm-cache paths that should never reach the network: a cached account
+ * validation and a cached JWT lookup
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+@State(Scope.Benchmark)
+public class CacheLookupBenchmark {
+
+    private static final String ACCOUNT_ID = "ACC1000";
+
+    private StubBankingServer server;
+    private ModernBankingClient client;
+    private AuthenticationManager authenticationManager;
+
+    @Setup
+    public void setUp() throws IOException, BankingClientException {
+        server = StubBankingServer.start();
+        var configuration = BankingClientConfiguration.builder()
+                .baseUrl(server.baseUrl())
+                .enableCaching(true)
+                .build();
+
+        client = new ModernBankingClient(configuration);
+        client.validateAccount(ACCOUNT_ID, false);
+
+        authenticationManager = new AuthenticationManager(configuration, HttpClient.newHttpClient(),
+                new ObjectMapper().registerModule(new JavaTimeModule()).registerModule(new Jdk8Module()));
+        if (authenticationManager.obtainToken("enquiry").isEmpty()) {
+            throw new IllegalStateException("Stub server did not issue a token");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        authenticationManager.shutdown();
+        client.shutdown();
+        server.close();
+    }
+
+    @Benchmark
+    public AccountValidationResult validateAccountCached() throws BankingClientException {
+        return client.validateAccount(ACCOUNT_ID, false);
+    }
+
+    @Benchmark
+    public Optional<String> obtainTokenCached() {
+        return authenticationManager.obtainToken("enquiry");
+    }
+}
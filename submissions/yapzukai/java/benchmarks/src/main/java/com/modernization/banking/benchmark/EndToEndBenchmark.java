@@ -0,0 +1,82 @@
+package com.modernization.banking.benchmark;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.modernization.banking.client.ModernBankingClient;
+import com.modernization.banking.config.BankingClientConfiguration;
+import com.modernization.banking.exception.BankingClientException;
+import com.modernization.banking.model.AccountBalance;
+import com.modernization.banking.model.AccountValidationResult;
+import com.modernization.banking.model.TransferResult;
+import com.modernization.banking.stub.StubBankingServer;
+
+/**
+ * Full client calls over loopback HTTP against the in-process stub server
+ *
+ * Caching is disabled so every call goes through validation, the resilience
+ * pipeline, the HTTP exchange and response decoding.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+@State(Scope.Benchmark)
+public class EndToEndBenchmark {
+
+    private StubBankingServer server;
+    private ModernBankingClient client;
+    private ModernBankingClient.TransferRequest transferRequest;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Large balances keep the transfer benchmark on the success path
+        server = StubBankingServer.builder()
+                .initialBalanceCents(1_000_000_000_000L)
+                .start();
+        client = new ModernBankingClient(BankingClientConfiguration.builder()
+                .baseUrl(server.baseUrl())
+                .enableCaching(false)
+                .build());
+        transferRequest = ModernBankingClient.TransferRequest.builder()
+                .fromAccount("ACC1000")
+                .toAccount("ACC1001")
+                .amount(new BigDecimal("150.25"))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.shutdown();
+        server.close();
+    }
+
+    @Benchmark
+    public AccountValidationResult validateAccount() throws BankingClientException {
+        return client.validateAccount("ACC1000", false);
+    }
+
+    @Benchmark
+    public AccountBalance getAccountBalance() throws BankingClientException {
+        return client.getAccountBalance("ACC1000", true);
+    }
+
+    @Benchmark
+    public TransferResult transferFunds() throws BankingClientException {
+        return client.transferFunds(transferRequest, true);
+    }
+}
@@ -0,0 +1,149 @@
+package com.modernization.banking.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.modernization.banking.json.BankingJson;
+import com.modernization.banking.model.AccountBalance;
+import com.modernization.banking.model.AccountValidationResult;
+import com.modernization.banking.model.Money;
+import com.modernization.banking.model.TransferResult;
+
+/**
+ * JSON encoding of transfer requests and decoding of validation, transfer and
+ * balance responses
+ *
+ * Each operation is measured three ways: the generic path the client used to
+ * take (a String body bound by {@code ObjectMapper.readValue} or written by
+ * {@code writeValueAsString}), a pre-built {@link ObjectReader} or
+ * {@link ObjectWriter} working on bytes, and for reads the streaming
+ * {@link BankingJson} codecs the client now uses. Compare the
+ * {@code gc.alloc.rate.norm} figures of the GC profiler that
+ * {@link BenchmarkRunner} always enables as well as the time per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonCodecBenchmark {
+
+    // Response bodies as returned by the core banking API
+    private static final String VALIDATION_RESULT_JSON = """
+            {"accountId":"ACC1000","isValid":true,"accountType":"VALID_ACCOUNT","status":"ACTIVE"}""";
+
+    private static final String TRANSFER_RESULT_JSON = """
+            {"tokenScope":"transfer","toAccount":"ACC1001","amount":150.25,"fromAccount":"ACC1000",\
+            "authenticatedUser":"modern_client","message":"Transfer completed successfully",\
+            "newFromAccountBalance":849.75,"transactionId":"347520db-45ae-4665-a0f8-02e99331c07d",\
+            "permissionLevel":"FULL_ACCESS","tokenPermissions":"transfer","status":"SUCCESS"}""";
+
+    private static final String ACCOUNT_BALANCE_JSON = """
+            {"tokenScope":"enquiry","accountId":"ACC1000","balance":962.50,"authenticatedUser":"modern_client",\
+            "tokenPermissions":"enquiry","currency":"USD","status":"ACTIVE"}""";
+
+    private static final byte[] VALIDATION_RESULT_BYTES = VALIDATION_RESULT_JSON.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TRANSFER_RESULT_BYTES = TRANSFER_RESULT_JSON.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ACCOUNT_BALANCE_BYTES = ACCOUNT_BALANCE_JSON.getBytes(StandardCharsets.UTF_8);
+
+    private ObjectMapper objectMapper;
+    private ObjectReader validationResultReader;
+    private ObjectReader transferResultReader;
+    private ObjectReader accountBalanceReader;
+    private ObjectWriter transferPayloadWriter;
+    private TransferPayload transferPayload;
+
+    @Setup
+    public void setUp() {
+        objectMapper = BankingJson.objectMapper();
+        validationResultReader = objectMapper.readerFor(AccountValidationResult.class);
+        transferResultReader = objectMapper.readerFor(TransferResult.class);
+        accountBalanceReader = objectMapper.readerFor(AccountBalance.class);
+        transferPayloadWriter = objectMapper.writerFor(TransferPayload.class);
+        transferPayload = new TransferPayload("ACC1000", "ACC1001",
+                Money.ofMinor(15_025L, Money.DEFAULT_CURRENCY), "Invoice 2024-117");
+    }
+
+    @Benchmark
+    public String writeTransferPayload() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(transferPayload);
+    }
+
+    @Benchmark
+    public byte[] writeTransferPayloadWriter() throws JsonProcessingException {
+        return transferPayloadWriter.writeValueAsBytes(transferPayload);
+    }
+
+    @Benchmark
+    public AccountValidationResult readValidationResult() throws JsonProcessingException {
+        return objectMapper.readValue(VALIDATION_RESULT_JSON, AccountValidationResult.class);
+    }
+
+    @Benchmark
+    public AccountValidationResult readValidationResultReader() throws IOException {
+        return validationResultReader.readValue(VALIDATION_RESULT_BYTES);
+    }
+
+    @Benchmark
+    public AccountValidationResult readValidationResultStreaming() throws IOException {
+        return BankingJson.readAccountValidationResult(VALIDATION_RESULT_BYTES);
+    }
+
+    @Benchmark
+    public TransferResult readTransferResult() throws JsonProcessingException {
+        return objectMapper.readValue(TRANSFER_RESULT_JSON, TransferResult.class);
+    }
+
+    @Benchmark
+    public TransferResult readTransferResultReader() throws IOException {
+        return transferResultReader.readValue(TRANSFER_RESULT_BYTES);
+    }
+
+    @Benchmark
+    public TransferResult readTransferResultStreaming() throws IOException {
+        return BankingJson.readTransferResult(TRANSFER_RESULT_BYTES);
+    }
+
+    @Benchmark
+    public AccountBalance readAccountBalance() throws JsonProcessingException {
+        return objectMapper.readValue(ACCOUNT_BALANCE_JSON, AccountBalance.class);
+    }
+
+    @Benchmark
+    public AccountBalance readAccountBalanceReader() throws IOException {
+        return accountBalanceReader.readValue(ACCOUNT_BALANCE_BYTES);
+    }
+
+    @Benchmark
+    public AccountBalance readAccountBalanceStreaming() throws IOException {
+        return BankingJson.readAccountBalance(ACCOUNT_BALANCE_BYTES);
+    }
+
+    /**
+     * Same shape as the client's private transfer payload record
+     */
+    public record TransferPayload(
+            @JsonProperty("fromAccount") String fromAccount,
+            @JsonProperty("toAccount") String toAccount,
+            @JsonProperty("amount") Money amount,
+            @JsonProperty("description") String description) {
+    }
+}
@@ -0,0 +1,149 @@
+package com.modernization.banking.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import com.modernization.banking.stub.StubBankingServer;
+import com.modernization.banking.stub.StubEndpoint;
+
+/**
+ * Cold-start benchmark of the shaded client jar, with and without its AppCDS
+ * archive
+ *
+ * Each run launches a fresh JVM that validates one account against an
+ * in-process stub server. Time to first request is measured from process
+ * launch until the stub receives the validation call; time to exit until the
+ * process has terminated. Runs with and without the archive alternate so
+ * that both see the same page cache and machine load. Startup does not fit
+ * JMH's in-process model, hence a plain main method:
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.modernization.banking.benchmark.StartupBenchmark \
+ *     target/modern-banking-client-1.0.0.jar [archive.jsa] [runs]
+ * </pre>
+ */
+public final class StartupBenchmark {
+
+    private static final int DEFAULT_RUNS = 10;
+    private static final long PROCESS_TIMEOUT_SECONDS = 60;
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: StartupBenchmark <client jar> [archive.jsa] [runs]");
+            System.exit(2);
+        }
+        var jar = Path.of(args[0]);
+        var archive = args.length > 1 ? Path.of(args[1])
+                : jar.resolveSibling(jar.getFileName().toString().replaceFirst("\\.jar$", "") + ".jsa");
+        var runs = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_RUNS;
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalArgumentException("Client jar not found: " + jar);
+        }
+        if (!Files.isRegularFile(archive)) {
+            throw new IllegalArgumentException("Archive not found: " + archive + "; build with -Pappcds");
+        }
+
+        // The stub runs in this JVM; see StubBankingServer
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        try (var server = StubBankingServer.start()) {
+            var cold = new Samples();
+            var archived = new Samples();
+
+            // One untimed run each to warm the page cache
+            launch(server, jar, null);
+            launch(server, jar, archive);
+            for (var run = 0; run < runs; run++) {
+                cold.add(launch(server, jar, null));
+                archived.add(launch(server, jar, archive));
+            }
+
+            System.out.printf("Startup of %s over %d runs (ms)%n", jar.getFileName(), runs);
+            System.out.printf("%-22s %-18s %8s %8s %8s%n", "", "", "min", "median", "max");
+            cold.print("without archive");
+            archived.print("with archive");
+            System.out.printf("Median time to first request: %.0f%% faster with the archive%n",
+                    100.0 * (1.0 - median(archived.firstRequestMs) / median(cold.firstRequestMs)));
+        }
+    }
+
+    private static long[] launch(StubBankingServer server, Path jar, Path archive)
+            throws IOException, InterruptedException {
+        var command = new ArrayList<String>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (archive != null) {
+            // Fail instead of silently starting without the archive
+            command.add("-XX:SharedArchiveFile=" + archive);
+            command.add("-Xshare:on");
+        }
+        command.addAll(List.of("-jar", jar.toString(), "-u", server.baseUrl(), "--validate", "ACC1000"));
+
+        var builder = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD);
+        // Never let a running daemon answer in place of the cold JVM
+        builder.environment().put("BANKING_CLIENT_SOCKET", Path.of(System.getProperty("java.io.tmpdir"),
+                "startup-benchmark-" + ProcessHandle.current().pid() + ".sock").toString());
+
+        var requestsBefore = server.stats(StubEndpoint.VALIDATE).requests();
+        var startNanos = System.nanoTime();
+        var process = builder.start();
+
+        var firstRequestNanos = -1L;
+        while (process.isAlive()) {
+            if (server.stats(StubEndpoint.VALIDATE).requests() > requestsBefore) {
+                firstRequestNanos = System.nanoTime() - startNanos;
+                break;
+            }
+            LockSupport.parkNanos(50_000L);
+        }
+        if (!process.waitFor(PROCESS_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            throw new IllegalStateException("Client did not exit within " + PROCESS_TIMEOUT_SECONDS + "s");
+        }
+        var exitNanos = System.nanoTime() - startNanos;
+
+        if (process.exitValue() != 0 || firstRequestNanos < 0) {
+            throw new IllegalStateException("Client run failed with exit code " + process.exitValue()
+                    + (archive != null ? "; the archive may not match the jar, rebuild with -Pappcds" : ""));
+        }
+        return new long[] { firstRequestNanos, exitNanos };
+    }
+
+    private static double median(List<Double> values) {
+        var sorted = values.stream().sorted().toList();
+        var middle = sorted.size() / 2;
+        return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2.0;
+    }
+
+    /**
+     * Startup times of one variant in milliseconds
+     */
+    private static final class Samples {
+        private final List<Double> firstRequestMs = new ArrayList<>();
+        private final List<Double> exitMs = new ArrayList<>();
+
+        void add(long[] sample) {
+            firstRequestMs.add(sample[0] / 1_000_000.0);
+            exitMs.add(sample[1] / 1_000_000.0);
+        }
+
+        void print(String label) {
+            print(label, "first request", firstRequestMs);
+            print("", "exit", exitMs);
+        }
+
+        private static void print(String label, String metric, List<Double> values) {
+            System.out.printf("%-22s %-18s %8.0f %8.0f %8.0f%n", label, metric, Collections.min(values),
+                    median(values), Collections.max(values));
+        }
+    }
+}
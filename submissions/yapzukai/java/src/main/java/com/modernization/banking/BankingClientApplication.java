@@ -1,10 +1,16 @@
 package com.modernization.banking;
 
+import java.io.PrintWriter;
+import java.math.BigDecimal;
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.modernization.banking.cli.BankingClientCommand;
 import com.modernization.banking.client.ModernBankingClient;
 import com.modernization.banking.config.BankingClientConfiguration;
+import com.modernization.banking.daemon.DaemonClient;
 
 /**
  * Modern Banking Client Application - Java 17+ Implementation
@@ -29,7 +35,10 @@ import com.modernization.banking.config.BankingClientConfiguration;
  */
 public class BankingClientApplication {
 
-    private static final Logger logger = LoggerFactory.getLogger(BankingClientApplication.class);
+    // Looked up on first use so that forwarding to a daemon skips logging setup
+    private static Logger logger() {
+        return LoggerFactory.getLogger(BankingClientApplication.class);
+    }
 
     /**
      * Application entry point
@@ -37,7 +46,22 @@ public class BankingClientApplication {
      * @param args Command line arguments
      */
     public static void main(String[] args) {
-        logger.info("Starting Modern Banking Client Application");
+        // Responses of the load command's stub server would otherwise each
+        // wait out a delayed ACK; see StubBankingServer
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+
+        // A running daemon already holds a warm client, so skip building one
+        if (args.length > 0 && !"--demo".equals(args[0])) {
+            var exitCode = DaemonClient.forward(DaemonClient.defaultSocket(), List.of(args),
+                    new PrintWriter(System.out), new PrintWriter(System.err));
+            if (exitCode.isPresent()) {
+                System.exit(exitCode.getAsInt());
+            }
+        }
+
+        logger().info("Starting Modern Banking Client Application");
 
         try {
             // Check for demo flag
@@ -46,15 +70,21 @@ public class BankingClientApplication {
                 return;
             }
 
+            // Anything else goes to the command-line interface
+            if (args.length > 0) {
+                System.exit(BankingClientCommand.commandLine(
+                        new BankingClientCommand(BankingClientConfiguration.defaultConfiguration())).execute(args));
+            }
+
             // Default: show usage and run demo
             System.out.println("Modern Banking Client - Java 17+ Implementation");
-            System.out.println("Usage: java -jar banking-client.jar [--demo]");
+            System.out.println("Usage: java -jar banking-client.jar [--demo | --help | load --help | daemon --help]");
             System.out.println();
             System.out.println("Running demo...");
             runDemo();
 
         } catch (Exception e) {
-            logger.error("Fatal application error", e);
+            logger().error("Fatal application error", e);
             System.err.println("Fatal error: " + e.getMessage());
             System.exit(1);
         }
@@ -106,7 +136,7 @@ public class BankingClientApplication {
                 var transferRequest = ModernBankingClient.TransferRequest.builder()
                         .fromAccount("ACC1000")
                         .toAccount("ACC1001")
-                        .amount(75.25)
+                        .amount(new BigDecimal("75.25"))
                         .description("Demo transfer - Java 17+")
                         .build();
 
@@ -136,7 +166,7 @@ public class BankingClientApplication {
 
         } catch (Exception e) {
             System.err.printf("\n❌ Demo failed: %s%n", e.getMessage());
-            logger.error("Demo execution failed", e);
+            logger().error("Demo execution failed", e);
         }
     }
 }
\ No newline at end of file
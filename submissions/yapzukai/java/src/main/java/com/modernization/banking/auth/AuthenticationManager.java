@@ -9,18 +9,42 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.modernization.banking.config.BankingClientConfiguration;
+import com.modernization.banking.exception.BankingClientException;
+import com.modernization.banking.json.BankingJson;
+import com.modernization.banking.json.JsonBody;
+import com.modernization.banking.metrics.LatencyHistograms;
+import com.modernization.banking.resilience.CircuitBreakers;
+import com.modernization.banking.resilience.Endpoint;
+import com.modernization.banking.resilience.Futures;
+import com.modernization.banking.resilience.RetryExecutor;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * JWT Authentication manager with token caching
  * 
- * Handles token acquisition, caching, and validation
+ * Handles token acquisition, caching, and validation. Concurrent requests for
+ * the same scope share a single POST /authToken, and cached tokens that are
+ * in use are refreshed in the background before they enter the expiry buffer,
+ * so request threads do not wait on token acquisition in steady state. A token
+ * left unused since it was issued is not refreshed; it expires and the next
+ * request for its scope fetches a new one.
  */
 public class AuthenticationManager {
 
@@ -28,17 +52,54 @@ public class AuthenticationManager {
 
     private final BankingClientConfiguration configuration;
     private final HttpClient httpClient;
+    private final HttpResponse.BodyHandler<JsonBody> bodyHandler;
     private final ObjectMapper objectMapper;
     private final Map<String, TokenCacheEntry> tokenCache;
     private final Duration tokenExpiryBuffer = Duration.ofMinutes(5);
+    private final Duration refreshLeadTime = Duration.ofMinutes(1);
+    private final Duration defaultTokenLifetime = Duration.ofHours(1);
+    private final Duration refreshRetryDelay = Duration.ofSeconds(30);
+
+    // Single-flight token acquisition and background refresh
+    private final Map<String, CompletableFuture<Optional<String>>> inFlightRequests;
+    private final Map<String, ScheduledFuture<?>> refreshTasks;
+    // Scopes whose cached token was handed out since it was issued
+    private final Set<String> usedScopes;
+    private final ScheduledExecutorService refreshScheduler;
+
+    private final RetryExecutor retryExecutor;
+    private final CircuitBreakers circuitBreakers;
+    private final LatencyHistograms latencyHistograms;
 
     public AuthenticationManager(BankingClientConfiguration configuration,
             HttpClient httpClient,
             ObjectMapper objectMapper) {
+        this(configuration, httpClient, objectMapper, RetryExecutor.disabled(new SimpleMeterRegistry()),
+                CircuitBreakers.disabled(), new LatencyHistograms());
+    }
+
+    public AuthenticationManager(BankingClientConfiguration configuration,
+            HttpClient httpClient,
+            ObjectMapper objectMapper,
+            RetryExecutor retryExecutor,
+            CircuitBreakers circuitBreakers,
+            LatencyHistograms latencyHistograms) {
         this.configuration = configuration;
         this.httpClient = httpClient;
+        this.bodyHandler = JsonBody.handler(configuration.maxResponseBytes());
         this.objectMapper = objectMapper;
+        this.retryExecutor = retryExecutor;
+        this.circuitBreakers = circuitBreakers;
+        this.latencyHistograms = latencyHistograms;
         this.tokenCache = new ConcurrentHashMap<>();
+        this.inFlightRequests = new ConcurrentHashMap<>();
+        this.refreshTasks = new ConcurrentHashMap<>();
+        this.usedScopes = ConcurrentHashMap.newKeySet();
+        this.refreshScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "banking-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     /**
@@ -48,52 +109,237 @@ public class AuthenticationManager {
      * @return JWT token if successful
      */
     public Optional<String> obtainToken(String scope) {
-        var cacheKey = scope;
+        var cached = cachedToken(scope);
+        if (cached.isPresent()) {
+            return cached;
+        }
 
-        // Check cache first
-        var cached = tokenCache.get(cacheKey);
-        if (cached != null && Instant.now().isBefore(cached.expiry().minus(tokenExpiryBuffer))) {
-            logger.debug("Using cached token for scope: {}", scope);
-            return Optional.of(cached.token());
+        try {
+            return acquireToken(scope).get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Interrupted while obtaining authentication token for scope: {}", scope, e);
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            logger.error("Error obtaining authentication token for scope: {}", scope, e);
+            return Optional.empty();
         }
+    }
 
+    /**
+     * Obtain JWT token for the specified scope without blocking the caller
+     * 
+     * The token request is issued with {@link HttpClient#sendAsync}, so no
+     * thread is held while waiting for the authentication server.
+     * 
+     * @param scope Token scope (enquiry, transfer)
+     * @return Future completing with the JWT token if successful; never completes exceptionally
+     */
+    public CompletableFuture<Optional<String>> obtainTokenAsync(String scope) {
+        var cached = cachedToken(scope);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return acquireToken(scope);
+    }
+
+    /**
+     * Join the in-flight request for the scope, or start one
+     */
+    private CompletableFuture<Optional<String>> acquireToken(String scope) {
+        var promise = new CompletableFuture<Optional<String>>();
+        var existing = inFlightRequests.putIfAbsent(scope, promise);
+        if (existing != null) {
+            logger.debug("Joining in-flight token request for scope: {}", scope);
+            return existing.copy();
+        }
+
+        requestToken(scope).whenComplete((token, error) -> {
+            inFlightRequests.remove(scope, promise);
+            promise.complete(error == null ? token : Optional.empty());
+        });
+        return promise.copy();
+    }
+
+    private CompletableFuture<Optional<String>> requestToken(String scope) {
+        final HttpRequest request;
         try {
-            var authPayload = Map.of(
-                    "username", "modern_client",
-                    "password", "secure_password");
+            request = buildTokenRequest(scope);
+        } catch (IOException e) {
+            logger.error("Error obtaining authentication token for scope: {}", scope, e);
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
 
-            var url = configuration.baseUrl() + "/authToken?claim=" + scope;
+        return retryExecutor.execute(Endpoint.AUTH_TOKEN,
+                () -> circuitBreakers.execute(Endpoint.AUTH_TOKEN, () -> sendTokenRequest(scope, request)))
+                .exceptionally(e -> {
+                    logger.error("Error obtaining authentication token for scope: {}", scope, e);
+                    return Optional.empty();
+                });
+    }
 
-            var request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .timeout(Duration.ofSeconds(configuration.requestTimeout()))
-                    .header("Content-Type", "application/json")
-                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(authPayload)))
-                    .build();
+    /**
+     * Schedule a refresh shortly before the token enters the expiry buffer
+     */
+    private void scheduleRefresh(String scope, TokenCacheEntry entry) {
+        var lifetime = Duration.between(Instant.now(), entry.usableUntil());
+        var leadTime = min(refreshLeadTime, lifetime.dividedBy(4));
+        scheduleRefresh(scope, lifetime.minus(leadTime), true);
+    }
 
-            var response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    /**
+     * @param onlyIfUsed Skip the refresh if the token has not been used since
+     *                   it was issued
+     */
+    private void scheduleRefresh(String scope, Duration delay, boolean onlyIfUsed) {
+        if (refreshScheduler.isShutdown()) {
+            return;
+        }
+        var task = refreshScheduler.schedule(() -> refreshToken(scope, onlyIfUsed),
+                Math.max(0L, delay.toMillis()), TimeUnit.MILLISECONDS);
+        var previous = refreshTasks.put(scope, task);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    private void refreshToken(String scope, boolean onlyIfUsed) {
+        if (onlyIfUsed && !usedScopes.remove(scope)) {
+            // Idle scope: let the token lapse instead of refreshing it forever
+            logger.debug("Token for scope {} unused since issued, not refreshing", scope);
+            refreshTasks.remove(scope);
+            return;
+        }
+        logger.debug("Refreshing token for scope: {}", scope);
+        acquireToken(scope).thenAccept(token -> {
+            var cached = tokenCache.get(scope);
+            if (token.isEmpty() && cached != null && Instant.now().isBefore(cached.expiry())) {
+                // Keep trying while the current token is still usable
+                logger.warn("Background token refresh failed for scope: {}, retrying in {}s",
+                        scope, refreshRetryDelay.toSeconds());
+                scheduleRefresh(scope, refreshRetryDelay, false);
+            }
+        });
+    }
+
+    private Optional<String> cachedToken(String scope) {
+        var cached = tokenCache.get(scope);
+        if (cached != null && Instant.now().isBefore(cached.usableUntil())) {
+            logger.debug("Using cached token for scope: {}", scope);
+            if (!usedScopes.contains(scope)) {
+                usedScopes.add(scope);
+            }
+            return Optional.of(cached.token());
+        }
+        return Optional.empty();
+    }
+
+    private HttpRequest buildTokenRequest(String scope) throws IOException {
+        var authPayload = Map.of(
+                "username", "modern_client",
+                "password", "secure_password");
+
+        var url = configuration.baseUrl() + "/authToken?claim=" + scope;
+
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(Duration.ofSeconds(configuration.requestTimeout()))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(authPayload)))
+                .build();
+    }
 
-            if (response.statusCode() == 200) {
-                var responseData = objectMapper.readValue(response.body(), Map.class);
-                var token = (String) responseData.get("token");
+    private CompletableFuture<Optional<String>> sendTokenRequest(String scope, HttpRequest request) {
+        var startTime = System.nanoTime();
+        return httpClient.sendAsync(request, bodyHandler)
+                .handle((response, error) -> {
+                    if (error != null) {
+                        latencyHistograms.recordError(Endpoint.AUTH_TOKEN, System.nanoTime() - startTime);
+                        var cause = Futures.unwrap(error);
+                        if (cause instanceof JsonBody.TooLargeException) {
+                            throw new CompletionException(new BankingClientException(
+                                    cause.getMessage(), "RESPONSE_TOO_LARGE", cause));
+                        }
+                        throw new CompletionException(new BankingClientException(
+                                "Network error obtaining authentication token", "NETWORK_ERROR", cause));
+                    }
+                    latencyHistograms.record(Endpoint.AUTH_TOKEN, response.statusCode(),
+                            System.nanoTime() - startTime);
+                    try {
+                        return handleTokenResponse(scope, response);
+                    } catch (IOException | BankingClientException e) {
+                        throw new CompletionException(e);
+                    }
+                });
+    }
 
-                if (token != null) {
-                    // Cache token with 1 hour expiry
-                    var expiry = Instant.now().plus(Duration.ofHours(1));
-                    tokenCache.put(cacheKey, new TokenCacheEntry(token, expiry));
+    private Optional<String> handleTokenResponse(String scope, HttpResponse<JsonBody> response)
+            throws IOException, BankingClientException {
+        if (response.statusCode() == 200) {
+            var token = BankingJson.readAuthToken(response.body().inputStream());
 
-                    logger.info("Successfully obtained JWT token for scope: {}", scope);
+            if (token != null) {
+                var receivedAt = Instant.now();
+                var expiry = tokenExpiry(token, receivedAt);
+                if (expiry.isEmpty()) {
+                    return Optional.empty();
+                }
+                if (!expiry.get().isAfter(receivedAt)) {
+                    logger.warn("Token for scope {} was issued already expired, not caching it", scope);
                     return Optional.of(token);
                 }
+
+                // Cache token until shortly before its exp claim
+                var entry = TokenCacheEntry.of(token, expiry.get(), tokenExpiryBuffer);
+                tokenCache.put(scope, entry);
+                scheduleRefresh(scope, entry);
+
+                logger.info("Successfully obtained JWT token for scope: {} (expires {})", scope, expiry.get());
+                return Optional.of(token);
             }
+        }
 
-            logger.error("Failed to obtain token: HTTP {}", response.statusCode());
-            return Optional.empty();
+        var status = response.statusCode();
+        if (status == 429 || status >= 500) {
+            // Transient server-side failure, surfaced so the retry executor can back off
+            throw new BankingClientException("Failed to obtain token: HTTP " + status,
+                    "AUTH_ERROR", status);
+        }
 
-        } catch (IOException | InterruptedException e) {
-            logger.error("Error obtaining authentication token for scope: {}", scope, e);
-            return Optional.empty();
+        logger.error("Failed to obtain token: HTTP {}", status);
+        return Optional.empty();
+    }
+
+    /**
+     * Determine when a freshly issued token expires from its exp/iat claims
+     * 
+     * @return Local expiry, or empty if signature verification is enabled and
+     *         fails
+     */
+    private Optional<Instant> tokenExpiry(String token, Instant receivedAt) {
+        Optional<TokenClaims> claims;
+        if (configuration.verifyTokenSignature()) {
+            try {
+                claims = TokenClaims.verify(token, configuration.jwtSecret());
+            } catch (JwtException e) {
+                logger.error("Rejecting token that failed signature verification: {}", e.getMessage());
+                return Optional.empty();
+            }
+        } else {
+            claims = TokenClaims.decode(token, objectMapper);
         }
+
+        if (claims.isEmpty()) {
+            logger.warn("Token has no readable exp claim, assuming {} lifetime", defaultTokenLifetime);
+            return Optional.of(receivedAt.plus(defaultTokenLifetime));
+        }
+        return Optional.of(claims.get().localExpiry(receivedAt));
+    }
+
+    private static Duration min(Duration first, Duration second) {
+        return first.compareTo(second) <= 0 ? first : second;
     }
 
     /**
@@ -115,10 +361,21 @@ public class AuthenticationManager {
      * Clear token cache
      */
     public void clearTokenCache() {
+        refreshTasks.values().forEach(task -> task.cancel(false));
+        refreshTasks.clear();
+        usedScopes.clear();
         tokenCache.clear();
         logger.debug("Token cache cleared");
     }
 
+    /**
+     * Stop background token refresh and clear the token cache
+     */
+    public void shutdown() {
+        refreshScheduler.shutdownNow();
+        clearTokenCache();
+    }
+
     /**
      * Get cache statistics
      * 
@@ -127,12 +384,24 @@ public class AuthenticationManager {
     public Map<String, Object> getCacheStatistics() {
         return Map.of(
                 "cachedTokens", tokenCache.size(),
-                "scopes", tokenCache.keySet());
+                "scopes", tokenCache.keySet(),
+                "inFlightRequests", inFlightRequests.size(),
+                "scheduledRefreshes", refreshTasks.size());
     }
 
     /**
      * Token cache entry record
      */
-    private record TokenCacheEntry(String token, Instant expiry) {
+    private record TokenCacheEntry(String token, Instant expiry, Instant usableUntil) {
+
+        /**
+         * Stop using the token one expiry buffer before it expires, capped at
+         * half its remaining lifetime so short-lived tokens are still reused
+         */
+        static TokenCacheEntry of(String token, Instant expiry, Duration expiryBuffer) {
+            var remaining = Duration.between(Instant.now(), expiry);
+            var buffer = remaining.isNegative() ? Duration.ZERO : min(expiryBuffer, remaining.dividedBy(2));
+            return new TokenCacheEntry(token, expiry, expiry.minus(buffer));
+        }
     }
 }
\ No newline at end of file
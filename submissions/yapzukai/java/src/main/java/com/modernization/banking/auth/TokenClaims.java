@@ -0,0 +1,95 @@
+package com.modernization.banking.auth;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.DecodingException;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Lifetime claims decoded from an issued JWT
+ *
+ * @param issuedAt  iat claim, if present
+ * @param expiresAt exp claim
+ */
+record TokenClaims(Optional<Instant> issuedAt, Instant expiresAt) {
+
+    /**
+     * Local expiry of the token
+     *
+     * When iat is present the server-issued lifetime (exp - iat) is applied to
+     * the local receive time, so clock skew between client and server does
+     * not shorten or extend the cache lifetime.
+     *
+     * @param receivedAt Local time the token was received
+     * @return Local instant at which the token expires
+     */
+    Instant localExpiry(Instant receivedAt) {
+        return issuedAt
+                .map(iat -> receivedAt.plus(Duration.between(iat, expiresAt)))
+                .orElse(expiresAt);
+    }
+
+    /**
+     * Decode exp/iat from the token payload without verifying the signature
+     *
+     * @param token        Compact JWT
+     * @param objectMapper Mapper used to read the payload JSON
+     * @return Claims, or empty if the token is malformed or has no exp claim
+     */
+    static Optional<TokenClaims> decode(String token, ObjectMapper objectMapper) {
+        var parts = token.split("\\.");
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+
+        try {
+            var payload = objectMapper.readTree(new String(Decoders.BASE64URL.decode(parts[1]),
+                    StandardCharsets.UTF_8));
+            return fromEpochSeconds(payload.get("iat"), payload.get("exp"));
+        } catch (IOException | DecodingException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Decode exp/iat after verifying the HMAC signature with the shared secret
+     *
+     * @param token  Compact JWT
+     * @param secret Shared HMAC secret
+     * @return Claims, or empty if the token has no exp claim
+     * @throws JwtException If the signature is invalid or the token is expired
+     */
+    static Optional<TokenClaims> verify(String token, String secret) {
+        var claims = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+
+        return Optional.ofNullable(claims.getExpiration())
+                .map(exp -> new TokenClaims(
+                        Optional.ofNullable(claims.getIssuedAt()).map(Date::toInstant),
+                        exp.toInstant()));
+    }
+
+    private static Optional<TokenClaims> fromEpochSeconds(JsonNode iat, JsonNode exp) {
+        if (exp == null || !exp.canConvertToLong()) {
+            return Optional.empty();
+        }
+        var issuedAt = iat != null && iat.canConvertToLong()
+                ? Optional.of(Instant.ofEpochSecond(iat.asLong()))
+                : Optional.<Instant>empty();
+        return Optional.of(new TokenClaims(issuedAt, Instant.ofEpochSecond(exp.asLong())));
+    }
+}
@@ -1,7 +1,10 @@
 package com.modernization.banking.cli;
 
+import java.io.PrintWriter;
 import java.math.BigDecimal;
+import java.nio.file.Path;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,11 +12,14 @@ import org.slf4j.LoggerFactory;
 import com.modernization.banking.client.ModernBankingClient;
 import com.modernization.banking.config.BankingClientConfiguration;
 import com.modernization.banking.exception.BankingClientException;
+import com.modernization.banking.model.Money;
 
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
+import picocli.CommandLine.Model.CommandSpec;
 import picocli.CommandLine.Parameters;
+import picocli.CommandLine.Spec;
 
 /**
  * Modern CLI interface for the Banking Client using PicoCLI
@@ -24,18 +30,33 @@ import picocli.CommandLine.Parameters;
  * - Authentication management
  * - Health checks
  * - Performance monitoring
+ * - Open-loop load generation ({@code load})
+ * - A persistent daemon holding a warm client ({@code daemon})
+ * - Transaction history export as NDJSON ({@code history})
  * 
  * @author Modernization Team
  * @version 1.0.0
  */
-@Command(name = "banking-client", description = "Modern Banking Client - Java 17+ Implementation", mixinStandardHelpOptions = true, version = "1.0.0", showDefaultValues = true, sortOptions = false)
+@Command(name = "banking-client", description = "Modern Banking Client - Java 17+ Implementation", mixinStandardHelpOptions = true, version = "1.0.0", showDefaultValues = true, sortOptions = false, subcommands = { LoadCommand.class, DaemonCommand.class, HistoryCommand.class })
 public class BankingClientCommand implements Callable<Integer> {
 
     private static final Logger logger = LoggerFactory.getLogger(BankingClientCommand.class);
 
+    /**
+     * Reported when a forwarded command's client options differ from the
+     * daemon's configuration
+     */
+    static final String DAEMON_OPTIONS_CONFLICT = "Client options differ from the running daemon's configuration;"
+            + " drop them or stop the daemon with: daemon --stop";
+
     private final BankingClientConfiguration configuration;
+    private final ModernBankingClient sharedClient;
+    private final Path workingDirectory;
     private ModernBankingClient client;
 
+    @Spec
+    private CommandSpec spec;
+
     @Option(names = { "-u", "--url" }, description = "Banking API base URL")
     private String apiUrl;
 
@@ -45,88 +66,207 @@ public class BankingClientCommand implements Callable<Integer> {
     @Option(names = { "--demo" }, description = "Run comprehensive demo")
     private boolean runDemo;
 
+    @Option(names = { "--virtual-threads" }, description = "Run client calls on virtual threads (Java 21+)")
+    private boolean virtualThreads;
+
+    @Option(names = { "--metrics-port" }, description = "Serve Prometheus metrics on this port (0 disables)")
+    private int metricsPort;
+
+    @Option(names = { "--metrics-host" }, description = "Address the metrics endpoint binds to (default: loopback)")
+    private String metricsHost;
+
     @CommandLine.ArgGroup(exclusive = true, multiplicity = "0..1")
     private OperationGroup operation;
 
     public BankingClientCommand(BankingClientConfiguration configuration) {
+        this(configuration, null);
+    }
+
+    /**
+     * Create a command that runs operations on an existing client, as the
+     * daemon does for forwarded commands
+     *
+     * @param configuration Configuration of the shared client
+     * @param sharedClient  Client to use instead of creating one; not shut
+     *                      down by the command
+     */
+    public BankingClientCommand(BankingClientConfiguration configuration, ModernBankingClient sharedClient) {
+        this(configuration, sharedClient, null);
+    }
+
+    /**
+     * Create a command forwarded from another process
+     *
+     * @param configuration    Configuration of the shared client
+     * @param sharedClient     Client to use instead of creating one; not shut
+     *                         down by the command
+     * @param workingDirectory Directory relative paths are resolved against,
+     *                         or null for this process's own
+     */
+    public BankingClientCommand(BankingClientConfiguration configuration, ModernBankingClient sharedClient,
+            Path workingDirectory) {
         this.configuration = configuration;
+        this.sharedClient = sharedClient;
+        this.workingDirectory = workingDirectory;
+    }
+
+    /**
+     * Command line running the given command
+     *
+     * Subcommand names are accepted as option values, so that
+     * {@code --description daemon} is a description rather than a request to
+     * start a daemon.
+     */
+    public static CommandLine commandLine(BankingClientCommand command) {
+        return new CommandLine(command).setAllowSubcommandsAsOptionParameters(true);
     }
 
     @Override
     public Integer call() throws Exception {
         try {
             // Initialize client
-            var config = apiUrl != null ? new BankingClientConfiguration(
-                    apiUrl,
-                    configuration.connectTimeout(),
-                    configuration.requestTimeout(),
-                    configuration.maxRetries(),
-                    configuration.retryDelayMs(),
-                    configuration.jwtSecret(),
-                    configuration.logLevel(),
-                    configuration.enableMetrics(),
-                    configuration.enableCaching()) : configuration;
-
-            this.client = new ModernBankingClient(config);
+            if (sharedClient != null) {
+                if (conflictsWithSharedClient()) {
+                    err().println(DAEMON_OPTIONS_CONFLICT);
+                    return 2;
+                }
+                this.client = sharedClient;
+            } else {
+                this.client = new ModernBankingClient(configurationBuilder().build());
+            }
             if (runDemo) {
                 return runComprehensiveDemo();
             }
 
             if (operation != null) {
-                return operation.execute(client);
+                if (client.isUsingVirtualThreads()) {
+                    return runOnVirtualThread(() -> operation.execute(client, out()));
+                }
+                return operation.execute(client, out());
             }
 
             // Default: show help
-            CommandLine.usage(this, System.out);
+            spec.commandLine().usage(out());
             return 0;
 
         } catch (BankingClientException e) {
-            System.err.println("Banking operation failed: " + e.getMessage());
+            err().println("Banking operation failed: " + e.getMessage());
             if (verbose) {
-                e.printStackTrace();
+                e.printStackTrace(err());
             }
             return 1;
         } catch (Exception e) {
-            System.err.println("Unexpected error: " + e.getMessage());
+            err().println("Unexpected error: " + e.getMessage());
             if (verbose) {
-                e.printStackTrace();
+                e.printStackTrace(err());
             }
             logger.error("CLI execution failed", e);
             return 2;
         }
     }
 
+    /**
+     * Configuration with the global command-line overrides applied, for the
+     * main command and its subcommands
+     */
+    BankingClientConfiguration.Builder configurationBuilder() {
+        var configBuilder = configuration.toBuilder();
+        if (apiUrl != null) {
+            configBuilder.baseUrl(apiUrl);
+        }
+        if (virtualThreads) {
+            configBuilder.useVirtualThreads(true);
+        }
+        if (metricsPort > 0) {
+            configBuilder.metricsPort(metricsPort);
+        }
+        if (metricsHost != null) {
+            configBuilder.metricsHost(metricsHost);
+        }
+        return configBuilder;
+    }
+
+    /**
+     * Client shared by the daemon, or null when commands create their own
+     */
+    ModernBankingClient sharedClient() {
+        return sharedClient;
+    }
+
+    /**
+     * Whether the global client options ask for a configuration other than
+     * the shared client's, which the command could then not honour
+     */
+    boolean conflictsWithSharedClient() {
+        return sharedClient != null && !configurationBuilder().build().equals(configuration);
+    }
+
+    /**
+     * Resolve a path given on the command line against the invoking
+     * process's working directory
+     */
+    Path resolve(Path path) {
+        return workingDirectory != null ? workingDirectory.resolve(path) : path;
+    }
+
+    boolean isVerbose() {
+        return verbose;
+    }
+
+    private PrintWriter out() {
+        return spec.commandLine().getOut();
+    }
+
+    private PrintWriter err() {
+        return spec.commandLine().getErr();
+    }
+
+    private int runOnVirtualThread(ModernBankingClient.BlockingCall<Integer> operationCall) throws Exception {
+        try {
+            return client.executeBlocking(operationCall).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     private int runComprehensiveDemo() {
-        System.out.println("🏦 Modern Banking Client Demo - Java 17+");
-        System.out.println("=".repeat(50));
+        var out = out();
+        out.println("🏦 Modern Banking Client Demo - Java 17+");
+        out.println("=".repeat(50));
 
         try {
             // Account validation demo
-            System.out.println("\n🔍 Account Validation:");
+            out.println("\n🔍 Account Validation:");
             var accounts = new String[] { "ACC1000", "ACC1001", "ACC2000" };
             for (var account : accounts) {
                 var result = client.validateAccount(account, false);
-                System.out.printf("   %s: %s%n", account,
+                out.printf("   %s: %s%n", account,
                         result.isValid() ? "✅ Valid" : "❌ Invalid");
             }
 
             // Health check
-            System.out.println("\n💚 Health Check:");
+            out.println("\n💚 Health Check:");
             var health = client.performHealthCheck();
-            System.out.printf("   Status: %s%n",
+            out.printf("   Status: %s%n",
                     health.isHealthy() ? "✅ Healthy" : "❌ Unhealthy");
 
             // Performance metrics
-            System.out.println("\n📊 Performance:");
+            out.println("\n📊 Performance:");
             var metrics = client.getPerformanceMetrics();
-            System.out.printf("   Requests: %d%n", metrics.totalRequests());
-            System.out.printf("   Success rate: %.1f%%%n", metrics.successRate() * 100);
+            out.printf("   Requests: %d%n", metrics.totalRequests());
+            out.printf("   Success rate: %.1f%%%n", metrics.successRate() * 100);
+            metrics.endpointLatencies().forEach((endpoint, latency) -> out.printf(
+                    "   %s latency: p50 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+                    endpoint, latency.p50Ms(), latency.p99Ms(), latency.maxMs()));
 
-            System.out.println("\n🎉 Demo completed successfully!");
+            out.println("\n🎉 Demo completed successfully!");
             return 0;
 
         } catch (Exception e) {
-            System.err.println("Demo failed: " + e.getMessage());
+            err().println("Demo failed: " + e.getMessage());
             return 1;
         }
     }
@@ -147,18 +287,18 @@ public class BankingClientCommand implements Callable<Integer> {
         @CommandLine.ArgGroup(exclusive = false)
         AuthOperation auth;
 
-        public int execute(ModernBankingClient client) throws Exception {
+        public int execute(ModernBankingClient client, PrintWriter out) throws Exception {
             if (validate != null) {
-                return validate.execute(client);
+                return validate.execute(client, out);
             }
             if (transfer != null) {
-                return transfer.execute(client);
+                return transfer.execute(client, out);
             }
             if (health != null) {
-                return health.execute(client);
+                return health.execute(client, out);
             }
             if (auth != null) {
-                return auth.execute(client);
+                return auth.execute(client, out);
             }
             return 0;
         }
@@ -174,12 +314,12 @@ public class BankingClientCommand implements Callable<Integer> {
         @Option(names = { "--validate" }, description = "Validate account", required = true)
         boolean validate;
 
-        public int execute(ModernBankingClient client) throws Exception {
+        public int execute(ModernBankingClient client, PrintWriter out) throws Exception {
             var result = client.validateAccount(accountNumber, false);
-            System.out.printf("Account %s: %s%n", accountNumber,
+            out.printf("Account %s: %s%n", accountNumber,
                     result.isValid() ? "✅ Valid" : "❌ Invalid");
             if (result.accountType().isPresent()) {
-                System.out.printf("Type: %s%n", result.accountType().get());
+                out.printf("Type: %s%n", result.accountType().get());
             }
             return 0;
         }
@@ -204,17 +344,24 @@ public class BankingClientCommand implements Callable<Integer> {
         @Option(names = { "--description" }, description = "Transfer description")
         String description = "CLI Transfer";
 
-        public int execute(ModernBankingClient client) throws Exception {
+        public int execute(ModernBankingClient client, PrintWriter out) throws Exception {
+            Money money;
+            try {
+                money = Money.of(amount, Money.DEFAULT_CURRENCY);
+            } catch (IllegalArgumentException e) {
+                throw new BankingClientException(e.getMessage(), "INVALID_AMOUNT");
+            }
+
             var request = ModernBankingClient.TransferRequest.builder()
                     .fromAccount(fromAccount)
                     .toAccount(toAccount)
-                    .amount(amount.doubleValue())
+                    .amount(money)
                     .description(description)
                     .build();
 
             var result = client.transferFunds(request, true);
-            System.out.printf("✅ Transfer successful: %s%n", result.transactionId());
-            System.out.printf("Status: %s%n", result.status());
+            out.printf("✅ Transfer successful: %s%n", result.transactionId());
+            out.printf("Status: %s%n", result.status());
             return 0;
         }
     }
@@ -226,11 +373,11 @@ public class BankingClientCommand implements Callable<Integer> {
         @Option(names = { "--health" }, description = "Check service health", required = true)
         boolean health;
 
-        public int execute(ModernBankingClient client) throws Exception {
+        public int execute(ModernBankingClient client, PrintWriter out) throws Exception {
             var result = client.performHealthCheck();
-            System.out.printf("Health: %s%n",
+            out.printf("Health: %s%n",
                     result.isHealthy() ? "✅ Healthy" : "❌ Unhealthy");
-            System.out.printf("Response time: %d ms%n", result.responseTime());
+            out.printf("Response time: %d ms%n", result.responseTime());
             return 0;
         }
     }
@@ -242,13 +389,13 @@ public class BankingClientCommand implements Callable<Integer> {
         @Option(names = { "--auth" }, description = "Test authentication", required = true)
         boolean auth;
 
-        public int execute(ModernBankingClient client) throws Exception {
+        public int execute(ModernBankingClient client, PrintWriter out) throws Exception {
             var token = client.getAuthenticationManager().obtainToken("test");
             if (token.isPresent()) {
-                System.out.println("✅ Authentication successful");
-                System.out.printf("Token: %s...%n", token.get().substring(0, 20));
+                out.println("✅ Authentication successful");
+                out.printf("Token: %s...%n", token.get().substring(0, 20));
             } else {
-                System.out.println("❌ Authentication failed");
+                out.println("❌ Authentication failed");
                 return 1;
             }
             return 0;
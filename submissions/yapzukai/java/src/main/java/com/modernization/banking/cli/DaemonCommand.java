@@ -0,0 +1,150 @@
+package com.modernization.banking.cli;
+
+import java.io.PrintWriter;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.modernization.banking.client.ModernBankingClient;
+import com.modernization.banking.config.BankingClientConfiguration;
+import com.modernization.banking.daemon.DaemonClient;
+import com.modernization.banking.daemon.DaemonServer;
+
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Model.CommandSpec;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.ParameterException;
+import picocli.CommandLine.ParentCommand;
+import picocli.CommandLine.ParseResult;
+import picocli.CommandLine.Spec;
+
+/**
+ * Persistent daemon subcommand
+ *
+ * Keeps one warm {@link ModernBankingClient} (validator, mapper, pooled
+ * connections, caches and JWT tokens) in a long-lived process and runs
+ * commands forwarded by the CLI over a Unix domain socket. While the daemon
+ * is running, {@code banking-client} invocations are forwarded to it
+ * automatically; global client options given when the daemon starts apply to
+ * every forwarded command, and a forwarded command asking for different ones
+ * fails rather than running against the daemon's server.
+ */
+@Command(name = "daemon", description = "Serve CLI commands from a long-lived process over a Unix domain socket", mixinStandardHelpOptions = true, showDefaultValues = true, sortOptions = false)
+public class DaemonCommand implements Callable<Integer> {
+
+    private static final Logger logger = LoggerFactory.getLogger(DaemonCommand.class);
+
+    private static final String[] WARM_UP_SCOPES = { "enquiry", "transfer" };
+
+    @ParentCommand
+    private BankingClientCommand parent;
+
+    @Spec
+    private CommandSpec spec;
+
+    @Option(names = { "--socket" }, description = "Unix domain socket path; defaults to $"
+            + DaemonClient.SOCKET_ENVIRONMENT_VARIABLE + " or a per-user socket in the temp directory")
+    private Path socket = DaemonClient.defaultSocket();
+
+    @Option(names = { "--stop" }, description = "Stop the daemon listening on the socket")
+    private boolean stop;
+
+    @Option(names = { "--warm-up" }, negatable = true, description = "Obtain JWT tokens before accepting commands")
+    private boolean warmUp = true;
+
+    private final CountDownLatch stopRequested = new CountDownLatch(1);
+
+    @Override
+    public Integer call() throws Exception {
+        var out = spec.commandLine().getOut();
+        var err = spec.commandLine().getErr();
+
+        if (stop) {
+            var stopped = DaemonClient.forward(socket, List.of("daemon", "--stop"), out, err);
+            if (stopped.isEmpty()) {
+                err.println("No daemon is listening on " + socket);
+                return 1;
+            }
+            return stopped.getAsInt();
+        }
+
+        var configuration = parent.configurationBuilder().build();
+        var client = new ModernBankingClient(configuration);
+        try {
+            if (warmUp) {
+                warmUp(client);
+            }
+
+            var server = DaemonServer.start(socket,
+                    (arguments, workingDirectory, commandOut, commandErr) -> run(arguments, workingDirectory,
+                            commandOut, commandErr, configuration, client));
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close, "banking-daemon-shutdown"));
+
+            out.printf("Banking client daemon listening on %s (stop with: daemon --stop)%n", socket);
+            out.flush();
+            stopRequested.await();
+            server.close();
+            server.awaitTermination();
+            return 0;
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    private int run(List<String> arguments, Path workingDirectory, PrintWriter out, PrintWriter err,
+            BankingClientConfiguration configuration, ModernBankingClient client) {
+        var daemon = daemonInvocation(arguments, configuration);
+        if (daemon.isPresent()) {
+            if (daemon.get().hasMatchedOption("--stop")) {
+                out.println("Daemon on " + socket + " stopping");
+                stopRequested.countDown();
+                return 0;
+            }
+            err.println("A daemon is already listening on " + socket);
+            return 1;
+        }
+
+        var commandLine = BankingClientCommand.commandLine(
+                new BankingClientCommand(configuration, client, workingDirectory));
+        commandLine.setOut(out);
+        commandLine.setErr(err);
+        return commandLine.execute(arguments.toArray(String[]::new));
+    }
+
+    /**
+     * Parse result of the daemon subcommand, if that is what the arguments
+     * invoke
+     *
+     * Decided by parsing rather than by looking for "daemon" among the
+     * arguments, which may be an option value or account name.
+     */
+    private static Optional<ParseResult> daemonInvocation(List<String> arguments,
+            BankingClientConfiguration configuration) {
+        try {
+            var parseResult = BankingClientCommand.commandLine(new BankingClientCommand(configuration))
+                    .parseArgs(arguments.toArray(String[]::new));
+            return Optional.ofNullable(parseResult.subcommand())
+                    .filter(subcommand -> subcommand.commandSpec().userObject() instanceof DaemonCommand);
+        } catch (ParameterException e) {
+            // Reported when the command is executed
+            return Optional.empty();
+        }
+    }
+
+    private static void warmUp(ModernBankingClient client) {
+        for (var scope : WARM_UP_SCOPES) {
+            try {
+                if (client.getAuthenticationManager().obtainToken(scope).isEmpty()) {
+                    logger.warn("Could not obtain {} token during warm-up", scope);
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Token warm-up for {} failed: {}", scope, e.getMessage());
+            }
+        }
+    }
+}
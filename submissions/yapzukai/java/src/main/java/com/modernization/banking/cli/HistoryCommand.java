@@ -0,0 +1,135 @@
+package com.modernization.banking.cli;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+
+import org.slf4j.LoggerFactory;
+
+import com.modernization.banking.client.ModernBankingClient;
+import com.modernization.banking.exception.BankingClientException;
+import com.modernization.banking.json.BankingJson;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Model.CommandSpec;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.ParentCommand;
+import picocli.CommandLine.Spec;
+
+/**
+ * Transaction history export subcommand
+ *
+ * Streams /transactions/history page by page and writes one JSON object per
+ * line (NDJSON), newest first, so an export of any length runs in constant
+ * memory. The record count goes to standard error, keeping standard output
+ * pure NDJSON for piping into other tools.
+ */
+@Command(name = "history", description = "Export transaction history as newline-delimited JSON", mixinStandardHelpOptions = true, showDefaultValues = true, sortOptions = false)
+public class HistoryCommand implements Callable<Integer> {
+
+    @ParentCommand
+    private BankingClientCommand parent;
+
+    @Spec
+    private CommandSpec spec;
+
+    @Option(names = { "--page-size" }, description = "Transactions per request, at most "
+            + ModernBankingClient.MAX_HISTORY_PAGE_SIZE)
+    private int pageSize = ModernBankingClient.MAX_HISTORY_PAGE_SIZE;
+
+    @Option(names = { "--max" }, description = "Stop after this many transactions; 0 exports all")
+    private long max = 0;
+
+    @Option(names = { "-o", "--output" }, description = "Write to this file instead of standard output")
+    private Path output;
+
+    @Override
+    public Integer call() throws Exception {
+        var err = spec.commandLine().getErr();
+        if (pageSize < 1 || pageSize > ModernBankingClient.MAX_HISTORY_PAGE_SIZE) {
+            err.println("Page size must be between 1 and " + ModernBankingClient.MAX_HISTORY_PAGE_SIZE);
+            return 2;
+        }
+        if (max < 0) {
+            err.println("Maximum cannot be negative");
+            return 2;
+        }
+
+        var sharedClient = parent.sharedClient();
+        if (parent.conflictsWithSharedClient()) {
+            err.println(BankingClientCommand.DAEMON_OPTIONS_CONFLICT);
+            return 2;
+        }
+        // Relative to the caller's directory when forwarded through the daemon
+        var target = output != null ? parent.resolve(output) : null;
+        // Client logging shares standard output with the export; quieted only for this command
+        Logger quietedRoot = null;
+        Level previousLevel = null;
+        if (sharedClient == null && output == null && !parent.isVerbose()
+                && LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME) instanceof Logger root) {
+            quietedRoot = root;
+            previousLevel = root.getLevel();
+            root.setLevel(Level.WARN);
+        }
+
+        try {
+            return runExport(sharedClient, target);
+        } finally {
+            if (quietedRoot != null) {
+                quietedRoot.setLevel(previousLevel);
+            }
+        }
+    }
+
+    private int runExport(ModernBankingClient sharedClient, Path target) throws Exception {
+        var err = spec.commandLine().getErr();
+        var client = sharedClient != null ? sharedClient : new ModernBankingClient(parent.configurationBuilder().build());
+        try {
+            var exported = target != null ? exportToFile(client, target) : export(client, spec.commandLine().getOut());
+            err.printf("Exported %d transactions%s%n", exported, target != null ? " to " + target : "");
+            return 0;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BankingClientException cause) {
+                err.println("History export failed: " + cause.getMessage());
+                return 1;
+            }
+            throw e;
+        } catch (IOException e) {
+            err.println("Cannot write history: " + e.getMessage());
+            return 2;
+        } finally {
+            if (sharedClient == null) {
+                client.shutdown();
+            }
+        }
+    }
+
+    private long exportToFile(ModernBankingClient client, Path target) throws IOException {
+        try (var writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            return export(client, writer);
+        }
+    }
+
+    private long export(ModernBankingClient client, Writer out) throws IOException {
+        var exported = 0L;
+        try (var history = client.transactionHistory(pageSize);
+                var generator = BankingJson.generator(out)) {
+            // Lines are terminated explicitly rather than separated by spaces
+            generator.setRootValueSeparator(null);
+            var records = (max > 0 ? history.limit(max) : history).iterator();
+            while (records.hasNext()) {
+                BankingJson.writeTransactionRecord(generator, records.next());
+                generator.writeRaw('\n');
+                exported++;
+            }
+        }
+        out.flush();
+        return exported;
+    }
+}
@@ -0,0 +1,236 @@
+package com.modernization.banking.cli;
+
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+import org.slf4j.LoggerFactory;
+
+import com.modernization.banking.client.ModernBankingClient;
+import com.modernization.banking.load.LoadGenerator;
+import com.modernization.banking.load.LoadProfile;
+import com.modernization.banking.load.LoadReport;
+import com.modernization.banking.metrics.LatencyPercentiles;
+import com.modernization.banking.stub.EndpointBehavior;
+import com.modernization.banking.stub.LatencyDistribution;
+import com.modernization.banking.stub.StubBankingServer;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Model.CommandSpec;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.ParentCommand;
+import picocli.CommandLine.Spec;
+
+/**
+ * Open-loop load test subcommand
+ *
+ * Sends a weighted mix of validate, balance and transfer calls at a fixed
+ * arrival rate and prints interval and final reports with latency corrected
+ * for coordinated omission. Global options such as {@code --url} and
+ * {@code --virtual-threads} apply to the client under test.
+ */
+@Command(name = "load", description = "Drive the API at a fixed request rate and report latency percentiles", mixinStandardHelpOptions = true, showDefaultValues = true, sortOptions = false)
+public class LoadCommand implements Callable<Integer> {
+
+    @ParentCommand
+    private BankingClientCommand parent;
+
+    @Spec
+    private CommandSpec spec;
+
+    @Option(names = { "--rate" }, description = "Requests per second")
+    private double rate = 100.0;
+
+    @Option(names = { "--duration" }, description = "Measured phase, e.g. 30s or 2m")
+    private String duration = "30s";
+
+    @Option(names = { "--warmup" }, description = "Unmeasured phase before the measured one")
+    private String warmup = "5s";
+
+    @Option(names = { "--mix" }, description = "Relative weights of validate, balance and transfer")
+    private String mix = "validate=60,balance=30,transfer=10";
+
+    @Option(names = { "--accounts" }, description = "Number of accounts to spread calls over, from ACC1000")
+    private int accounts = 10;
+
+    @Option(names = { "--auth" }, negatable = true, description = "Use JWT authentication")
+    private boolean useAuth = true;
+
+    @Option(names = { "--cache" }, negatable = true, description = "Serve repeated reads from the client cache")
+    private boolean cache;
+
+    @Option(names = { "--transfer-cents" }, description = "Amount of each transfer in minor units")
+    private long transferCents = 1L;
+
+    @Option(names = { "--max-outstanding" }, description = "In-flight requests above which arrivals are dropped")
+    private int maxOutstanding = 10_000;
+
+    @Option(names = { "--report-interval" }, description = "Interval between progress reports")
+    private String reportInterval = "5s";
+
+    @Option(names = { "--drain-timeout" }, description = "How long to wait for in-flight requests at the end")
+    private String drainTimeout = "30s";
+
+    @Option(names = { "--seed" }, description = "Seed for operation and account selection")
+    private long seed = 42L;
+
+    @Option(names = { "--stub" }, description = "Run against an in-process stub server instead of --url")
+    private boolean stub;
+
+    @Option(names = { "--stub-median-ms" }, description = "Median latency of the stub server")
+    private double stubMedianMs = 2.0;
+
+    @Option(names = { "--stub-p99-ms" }, description = "99th percentile latency of the stub server")
+    private double stubP99Ms = 20.0;
+
+    @Override
+    public Integer call() throws Exception {
+        final LoadProfile profile;
+        final EndpointBehavior stubBehavior;
+        try {
+            profile = LoadProfile.builder()
+                    .ratePerSecond(rate)
+                    .duration(parseDuration(duration))
+                    .warmup(parseDuration(warmup))
+                    .mix(LoadProfile.parseMix(mix))
+                    .accounts(accounts)
+                    .useAuth(useAuth)
+                    .transferCents(transferCents)
+                    .maxOutstanding(maxOutstanding)
+                    .reportInterval(parseDuration(reportInterval))
+                    .drainTimeout(parseDuration(drainTimeout))
+                    .seed(seed)
+                    .build();
+            stubBehavior = EndpointBehavior.builder()
+                    .latency(LatencyDistribution.logNormal(millis(stubMedianMs), millis(stubP99Ms)))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            spec.commandLine().getErr().println("Invalid load profile: " + e.getMessage());
+            return 2;
+        }
+
+        // Per-request logging would otherwise dominate the client's own cost; quieted only for this run
+        Logger quietedRoot = null;
+        Level previousLevel = null;
+        if (!parent.isVerbose() && LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME) instanceof Logger root) {
+            quietedRoot = root;
+            previousLevel = root.getLevel();
+            root.setLevel(Level.WARN);
+        }
+
+        try {
+            return runLoad(profile, stubBehavior);
+        } finally {
+            if (quietedRoot != null) {
+                quietedRoot.setLevel(previousLevel);
+            }
+        }
+    }
+
+    private int runLoad(LoadProfile profile, EndpointBehavior stubBehavior) throws Exception {
+        StubBankingServer server = null;
+        var configBuilder = parent.configurationBuilder().enableCaching(cache);
+        if (stub) {
+            server = StubBankingServer.builder()
+                    .accounts(accounts)
+                    .initialBalanceCents(1_000_000_000_000L)
+                    .defaultBehavior(stubBehavior)
+                    .start();
+            configBuilder.baseUrl(server.baseUrl());
+        }
+
+        var client = new ModernBankingClient(configBuilder.build());
+        try {
+            out().printf("Load: %.1f req/s for %s after %s warmup, mix %s, against %s%n", profile.ratePerSecond(),
+                    duration, warmup, profile.mix(), stub ? "stub server" : "configured URL");
+            var report = new LoadGenerator(client, profile, this::printInterval).run();
+            printReport(report);
+            return report.completed() > 0 ? 0 : 1;
+        } finally {
+            client.shutdown();
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    private void printInterval(LoadReport.Interval interval) {
+        var out = out();
+        var latency = interval.corrected();
+        out.printf("[%6.1fs]%s %8.1f req/s  errors %-5d p50 %8.2f  p99 %8.2f  max %8.2f ms%n",
+                interval.elapsed().toMillis() / 1_000.0, interval.warmup() ? " warmup" : "       ",
+                interval.throughput(), interval.errors(), latency.p50Ms(), latency.p99Ms(), latency.maxMs());
+        out.flush();
+    }
+
+    private void printReport(LoadReport report) {
+        var out = out();
+        out.println();
+        out.println("=".repeat(78));
+        out.printf("Offered %.1f req/s, achieved %.1f req/s over %s%n", report.offeredRate(),
+                report.throughput(), report.duration());
+        out.printf("Sent %d, completed %d, errors %d, dropped %d, unfinished %d%n", report.sent(),
+                report.completed(), report.errors(), report.dropped(), report.unfinished());
+
+        out.println();
+        out.printf("%-12s %-12s %8s %9s %9s %9s %9s %9s%n", "operation", "latency", "count", "p50 ms",
+                "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        report.operations().forEach((operation, stats) -> {
+            printPercentiles(out, operation.tag(), "corrected", stats.corrected());
+            printPercentiles(out, "", "uncorrected", stats.uncorrected());
+        });
+        printPercentiles(out, "all", "corrected", report.corrected());
+        printPercentiles(out, "", "uncorrected", report.uncorrected());
+
+        if (!report.errorsByCode().isEmpty()) {
+            out.println();
+            out.println("Errors by code:");
+            report.errorsByCode().forEach((code, count) -> out.printf("   %s: %d%n", code, count));
+        }
+    }
+
+    private static void printPercentiles(PrintWriter out, String operation, String kind, LatencyPercentiles latency) {
+        out.printf("%-12s %-12s %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n", operation, kind, latency.count(),
+                latency.p50Ms(), latency.p90Ms(), latency.p99Ms(), latency.p999Ms(), latency.maxMs());
+    }
+
+    /**
+     * Parse a duration such as {@code 500ms}, {@code 30s}, {@code 2m} or an
+     * ISO-8601 {@code PT30S}
+     */
+    static Duration parseDuration(String text) {
+        var value = text.trim().toLowerCase();
+        try {
+            if (value.startsWith("pt")) {
+                return Duration.parse(value.toUpperCase());
+            }
+            if (value.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+            }
+            var amount = Long.parseLong(value.substring(0, value.length() - 1));
+            switch (value.charAt(value.length() - 1)) {
+                case 's':
+                    return Duration.ofSeconds(amount);
+                case 'm':
+                    return Duration.ofMinutes(amount);
+                case 'h':
+                    return Duration.ofHours(amount);
+                default:
+                    break;
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid duration '" + text + "', expected e.g. 500ms, 30s or 2m", e);
+        }
+        throw new IllegalArgumentException("Invalid duration '" + text + "', expected e.g. 500ms, 30s or 2m");
+    }
+
+    private PrintWriter out() {
+        return spec.commandLine().getOut();
+    }
+
+    private static Duration millis(double millis) {
+        return Duration.ofNanos(Math.round(millis * 1_000_000.0));
+    }
+}
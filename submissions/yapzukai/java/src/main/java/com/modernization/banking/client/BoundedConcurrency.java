@@ -0,0 +1,51 @@
+package com.modernization.banking.client;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Runs indexed asynchronous tasks with at most a fixed number in flight
+ *
+ * Each worker pulls the next index when its current task completes, so no
+ * thread is held while tasks wait on I/O. Tasks that complete synchronously
+ * (for example cache hits) are drained in a loop rather than by recursion.
+ */
+final class BoundedConcurrency {
+
+    private BoundedConcurrency() {
+    }
+
+    /**
+     * Run {@code task} for every index in {@code [0, count)}
+     *
+     * @param count       Number of tasks
+     * @param concurrency Maximum number of tasks in flight
+     * @param task        Starts the task for an index; must not complete
+     *                    exceptionally
+     * @return Future completing once every task has completed
+     */
+    static CompletableFuture<Void> forEach(int count, int concurrency, IntFunction<CompletableFuture<?>> task) {
+        var next = new AtomicInteger();
+        var workers = new ArrayList<CompletableFuture<Void>>();
+        for (int worker = 0; worker < Math.min(count, concurrency); worker++) {
+            workers.add(drain(next, count, task));
+        }
+        return CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new));
+    }
+
+    private static CompletableFuture<Void> drain(AtomicInteger next, int count,
+            IntFunction<CompletableFuture<?>> task) {
+        while (true) {
+            int index = next.getAndIncrement();
+            if (index >= count) {
+                return CompletableFuture.completedFuture(null);
+            }
+            var pending = task.apply(index);
+            if (!pending.isDone()) {
+                return pending.thenCompose(ignored -> drain(next, count, task));
+            }
+        }
+    }
+}
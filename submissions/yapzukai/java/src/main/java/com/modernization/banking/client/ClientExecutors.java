@@ -0,0 +1,40 @@
+package com.modernization.banking.client;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executor factory for the banking client
+ *
+ * Virtual threads are looked up reflectively in every build, including the
+ * {@code java21} profile, so one jar compiles on Java 17 and uses them when
+ * run on Java 21 or later. The lookup happens once per client.
+ */
+final class ClientExecutors {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientExecutors.class);
+
+    private ClientExecutors() {
+    }
+
+    /**
+     * Create a virtual-thread-per-task executor if the runtime supports it
+     *
+     * @return Executor starting one virtual thread per task, or empty on
+     *         runtimes without virtual threads
+     */
+    static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+        try {
+            var factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Optional.of((ExecutorService) factory.invoke(null));
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            logger.warn("Virtual threads unavailable on Java {}, using platform threads",
+                    Runtime.version().feature());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.modernization.banking.client;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe value created on first use
+ *
+ * The initializer runs at most once; later calls read a volatile field
+ * without locking. The initializer is released once it has run so it does
+ * not keep its captured state alive.
+ *
+ * @param <T> Value type
+ */
+final class Lazy<T> implements Supplier<T> {
+
+    private Supplier<? extends T> initializer;
+    private volatile T value;
+
+    private Lazy(Supplier<? extends T> initializer) {
+        this.initializer = initializer;
+    }
+
+    static <T> Lazy<T> of(Supplier<? extends T> initializer) {
+        return new Lazy<>(initializer);
+    }
+
+    @Override
+    public T get() {
+        var current = value;
+        if (current == null) {
+            synchronized (this) {
+                current = value;
+                if (current == null) {
+                    current = initializer.get();
+                    value = current;
+                    initializer = null;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Value if it has been created, without creating it
+     */
+    Optional<T> ifCreated() {
+        return Optional.ofNullable(value);
+    }
+}
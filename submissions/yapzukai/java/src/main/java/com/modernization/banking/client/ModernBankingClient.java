@@ -1,38 +1,65 @@
 package com.modernization.banking.client;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.modernization.banking.auth.AuthenticationManager;
 import com.modernization.banking.config.BankingClientConfiguration;
 import com.modernization.banking.exception.BankingClientException;
+import com.modernization.banking.json.BankingJson;
+import com.modernization.banking.json.JsonBody;
+import com.modernization.banking.metrics.LatencyHistograms;
+import com.modernization.banking.metrics.MetricsServer;
 import com.modernization.banking.metrics.PerformanceMetrics;
+import com.modernization.banking.metrics.PrometheusTextFormat;
 import com.modernization.banking.model.*;
+import com.modernization.banking.resilience.CircuitBreakers;
+import com.modernization.banking.resilience.ConcurrencyLimiters;
+import com.modernization.banking.resilience.Endpoint;
+import com.modernization.banking.resilience.Futures;
+import com.modernization.banking.resilience.RequestHedger;
+import com.modernization.banking.resilience.RetryExecutor;
 import com.modernization.banking.validation.InputValidator;
+import io.micrometer.core.instrument.Clock;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
-import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Positive;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Modern Banking Client with enterprise features
@@ -40,12 +67,19 @@ import java.util.concurrent.ConcurrentMap;
  * Features:
  * - Java 17+ modern HTTP client
  * - Immutable data structures with records
- * - Reactive programming with CompletableFuture
+ * - Non-blocking async API built on HttpClient.sendAsync
  * - Comprehensive error handling and logging
  * - JWT authentication with token caching
- * - Retry logic with Spring Retry
+ * - Bounded, TTL-limited account validation cache (Caffeine)
+ * - Single-flight coalescing of identical concurrent reads
+ * - Batch transfers with shared validation and bounded parallelism
+ * - Non-blocking retries with jittered exponential backoff and a retry budget
+ * - Per-endpoint circuit breakers that fail fast while the server is degraded
+ * - Adaptive per-endpoint concurrency limits sized from measured latency
+ * - Optional hedging of slow account validation and balance reads
  * - Input validation with Bean Validation
- * - Performance monitoring with Micrometer
+ * - Performance monitoring with Micrometer and per-endpoint HDR latency
+ *   histograms, on a pluggable registry with an optional Prometheus endpoint
  * - Structured configuration management
  * - Thread-safe implementation
  */
@@ -53,19 +87,39 @@ public class ModernBankingClient {
 
     private static final Logger logger = LoggerFactory.getLogger(ModernBankingClient.class);
 
+    /**
+     * Largest page /transactions/history serves
+     */
+    public static final int MAX_HISTORY_PAGE_SIZE = 20;
+
     private final BankingClientConfiguration configuration;
     private final HttpClient httpClient;
-    private final ObjectMapper objectMapper;
-    private final AuthenticationManager authenticationManager;
+    private final HttpResponse.BodyHandler<JsonBody> bodyHandler;
+    private final Lazy<AuthenticationManager> authenticationManager;
     private final InputValidator inputValidator;
     private final MeterRegistry meterRegistry;
-    private final ConcurrentMap<String, Object> cache;
+    private final PrometheusMeterRegistry prometheusRegistry;
+    private final Cache<AccountRequestKey, AccountValidationResult> validationCache;
+    private final ExecutorService virtualThreadExecutor;
+    private final RetryExecutor retryExecutor;
+    private final CircuitBreakers circuitBreakers;
+    private final ConcurrencyLimiters concurrencyLimiters;
+    private final RequestHedger requestHedger;
 
     // Metrics
     private final Counter requestCounter;
     private final Counter successCounter;
     private final Counter errorCounter;
     private final Timer responseTimer;
+    private final Counter coalescedCounter;
+    private final Timer batchTimer;
+    private final Counter batchTransferCounter;
+    private final LatencyHistograms latencyHistograms;
+    private final MetricsServer metricsServer;
+
+    // Identical concurrent reads share one upstream request
+    private final SingleFlight<AccountRequestKey, AccountValidationResult> validationFlights;
+    private final SingleFlight<AccountRequestKey, AccountBalance> balanceFlights;
 
     /**
      * Create a new banking client with the given configuration
@@ -74,21 +128,60 @@ public class ModernBankingClient {
      */
     public ModernBankingClient(@NotNull BankingClientConfiguration configuration) {
         this.configuration = configuration;
-        this.cache = new ConcurrentHashMap<>();
-        this.meterRegistry = new SimpleMeterRegistry();
+        this.validationCache = configuration.enableCaching()
+                ? Caffeine.newBuilder()
+                        .maximumSize(configuration.cacheMaxSize())
+                        .expireAfterWrite(Duration.ofSeconds(configuration.cacheTtlSeconds()))
+                        .recordStats()
+                        .build()
+                : null;
+        // Meters always reach a Prometheus registry for scraping, and also a
+        // configured registry of another kind
+        var configuredRegistry = configuration.meterRegistry();
+        this.prometheusRegistry = configuredRegistry instanceof PrometheusMeterRegistry prometheus
+                ? prometheus
+                : new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        this.meterRegistry = configuredRegistry == null || configuredRegistry == prometheusRegistry
+                ? prometheusRegistry
+                : new CompositeMeterRegistry(Clock.SYSTEM, List.of(configuredRegistry, prometheusRegistry));
+        if (validationCache != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, validationCache, "account.validation");
+        }
         this.inputValidator = new InputValidator();
+        this.latencyHistograms = new LatencyHistograms();
+
+        // Virtual-thread execution when enabled and supported by the runtime
+        this.virtualThreadExecutor = configuration.useVirtualThreads()
+                ? ClientExecutors.newVirtualThreadPerTaskExecutor().orElse(null)
+                : null;
 
         // Initialize HTTP client with modern features
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(configuration.connectTimeout()))
-                .build();
+        var httpClientBuilder = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(configuration.connectTimeout()));
+        if (virtualThreadExecutor != null) {
+            httpClientBuilder.executor(virtualThreadExecutor);
+        }
+        this.httpClient = httpClientBuilder.build();
+
+        // Response bodies are parsed from the received buffers, up to a size cap
+        this.bodyHandler = JsonBody.handler(configuration.maxResponseBytes());
 
-        // Configure JSON mapper with Java 8 time support
-        this.objectMapper = new ObjectMapper()
-                .registerModule(new JavaTimeModule());
+        // Non-blocking retries honouring maxRetries/retryDelayMs
+        this.retryExecutor = new RetryExecutor(configuration, meterRegistry);
 
-        // Initialize authentication manager
-        this.authenticationManager = new AuthenticationManager(configuration, httpClient, objectMapper);
+        // Per-endpoint circuit breakers shed load while the server is degraded
+        this.circuitBreakers = new CircuitBreakers(configuration, meterRegistry);
+
+        // Adaptive per-endpoint cap on in-flight requests
+        this.concurrencyLimiters = new ConcurrencyLimiters(configuration, meterRegistry);
+
+        // Optional hedging of slow idempotent reads
+        this.requestHedger = new RequestHedger(configuration, meterRegistry);
+
+        // Authentication manager and its refresh thread are only created once
+        // a call needs a token
+        this.authenticationManager = Lazy.of(() -> new AuthenticationManager(configuration, httpClient,
+                BankingJson.objectMapper(), retryExecutor, circuitBreakers, latencyHistograms));
 
         // Initialize metrics
         this.requestCounter = Counter.builder("banking.requests.total")
@@ -107,7 +200,36 @@ public class ModernBankingClient {
                 .description("Response time for requests")
                 .register(meterRegistry);
 
-        logger.info("Modern Banking Client initialized with base URL: {}", configuration.baseUrl());
+        this.coalescedCounter = Counter.builder("banking.requests.coalesced")
+                .description("Requests served by joining an identical in-flight request")
+                .register(meterRegistry);
+
+        this.batchTimer = Timer.builder("banking.batch.duration")
+                .description("Wall-clock duration of transfer batches")
+                .register(meterRegistry);
+
+        this.batchTransferCounter = Counter.builder("banking.batch.transfers")
+                .description("Total number of transfers submitted in batches")
+                .register(meterRegistry);
+
+        this.validationFlights = new SingleFlight<>(coalescedCounter);
+        this.balanceFlights = new SingleFlight<>(coalescedCounter);
+
+        // Prometheus scrape endpoint over the same registry
+        this.metricsServer = configuration.enableMetrics() && configuration.metricsPort() > 0
+                ? startMetricsServer(configuration.metricsHost(), configuration.metricsPort())
+                : null;
+
+        logger.info("Modern Banking Client initialized with base URL: {} (virtual threads: {})",
+                configuration.baseUrl(), virtualThreadExecutor != null);
+    }
+
+    /**
+     * Holder for the transfer payload writer, resolved once against the
+     * shared mapper on the first transfer
+     */
+    private static final class TransferPayloadWriter {
+        private static final ObjectWriter INSTANCE = BankingJson.objectMapper().writerFor(TransferPayload.class);
     }
 
     /**
@@ -120,8 +242,7 @@ public class ModernBankingClient {
         @NotBlank(message = "Destination account cannot be blank")
         private final String toAccount;
 
-        @Positive(message = "Amount must be positive")
-        private final Double amount;
+        private final Money amount;
 
         private final String description;
 
@@ -145,7 +266,7 @@ public class ModernBankingClient {
             return toAccount;
         }
 
-        public Double getAmount() {
+        public Money getAmount() {
             return amount;
         }
 
@@ -156,7 +277,7 @@ public class ModernBankingClient {
         public static class Builder {
             private String fromAccount;
             private String toAccount;
-            private Double amount;
+            private Money amount;
             private String description;
 
             public Builder fromAccount(String fromAccount) {
@@ -169,11 +290,22 @@ public class ModernBankingClient {
                 return this;
             }
 
-            public Builder amount(Double amount) {
+            public Builder amount(Money amount) {
                 this.amount = amount;
                 return this;
             }
 
+            /**
+             * Exact amount in {@link Money#DEFAULT_CURRENCY}
+             *
+             * @throws IllegalArgumentException If the amount is more precise
+             *                                  than a cent
+             */
+            public Builder amount(BigDecimal amount) {
+                this.amount = Money.of(amount, Money.DEFAULT_CURRENCY);
+                return this;
+            }
+
             public Builder description(String description) {
                 this.description = description;
                 return this;
@@ -206,72 +338,99 @@ public class ModernBankingClient {
     public AccountValidationResult validateAccount(@NotBlank String accountId, boolean useAuth)
             throws BankingClientException {
 
-        var sanitizedAccountId = inputValidator.validateAndSanitizeAccountId(accountId);
-        var cacheKey = "account_validation_" + sanitizedAccountId + "_" + useAuth;
+        return await(validateAccountAsync(accountId, useAuth));
+    }
+
+    /**
+     * Validate account without blocking the calling thread
+     * 
+     * Token acquisition and the HTTP exchange both run on
+     * {@link HttpClient#sendAsync}, so no thread is pinned while the request is
+     * in flight.
+     * 
+     * @param accountId Account ID to validate
+     * @param useAuth   Whether to use JWT authentication
+     * @return Future completing with the validation result, or exceptionally
+     *         with a {@link BankingClientException}
+     */
+    public CompletableFuture<AccountValidationResult> validateAccountAsync(@NotBlank String accountId,
+            boolean useAuth) {
+
+        final String sanitizedAccountId;
+        try {
+            sanitizedAccountId = inputValidator.validateAndSanitizeAccountId(accountId);
+        } catch (BankingClientException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        var cacheKey = new AccountRequestKey(sanitizedAccountId, useAuth);
 
         // Check cache first
-        var cached = (AccountValidationResult) cache.get(cacheKey);
+        var cached = cachedValidation(cacheKey);
         if (cached != null) {
-            logger.debug("Returning cached validation result for account: {}", sanitizedAccountId);
-            return cached;
+            return CompletableFuture.completedFuture(cached);
         }
 
-        var url = configuration.baseUrl() + "/accounts/validate/" + sanitizedAccountId;
-        var startTime = System.currentTimeMillis();
+        return validationFlights.execute(cacheKey, () -> {
+            var requestBuilder = validationRequestBuilder(sanitizedAccountId);
+            var request = useAuth
+                    ? withTokenAsync(requestBuilder, "enquiry")
+                    : CompletableFuture.completedFuture(requestBuilder.build());
 
-        try {
-            requestCounter.increment();
-
-            var requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .timeout(Duration.ofSeconds(configuration.requestTimeout()))
-                    .GET();
-
-            // Add authentication header if required
-            if (useAuth) {
-                var token = authenticationManager.obtainToken("enquiry");
-                if (token.isPresent()) {
-                    requestBuilder.header("Authorization", "Bearer " + token.get());
-                    logger.debug("Added JWT authentication to validation request");
-                }
-            }
+            return sendAsync(Endpoint.VALIDATE, request,
+                    response -> handleValidationResponse(sanitizedAccountId, cacheKey, response),
+                    "Network error during account validation",
+                    "Error validating account: " + sanitizedAccountId);
+        });
+    }
 
-            var request = requestBuilder.build();
-            var response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    private HttpRequest.Builder validationRequestBuilder(String sanitizedAccountId) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(configuration.baseUrl() + "/accounts/validate/" + sanitizedAccountId))
+                .timeout(Duration.ofSeconds(configuration.requestTimeout()))
+                .GET();
+    }
 
-            responseTimer.record(System.currentTimeMillis() - startTime, java.util.concurrent.TimeUnit.MILLISECONDS);
+    private AccountValidationResult cachedValidation(AccountRequestKey cacheKey) {
+        if (validationCache == null) {
+            return null;
+        }
+        var cached = validationCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            logger.debug("Returning cached validation result for account: {}", cacheKey.accountId());
+        }
+        return cached;
+    }
 
-            if (response.statusCode() == 200) {
-                var result = objectMapper.readValue(response.body(), AccountValidationResult.class);
-                successCounter.increment();
+    private AccountValidationResult handleValidationResponse(String sanitizedAccountId, AccountRequestKey cacheKey,
+            HttpResponse<JsonBody> response) throws BankingClientException, IOException {
 
-                // Cache successful validation for 5 minutes
-                cache.put(cacheKey, result);
+        if (response.statusCode() == 200) {
+            var result = BankingJson.readAccountValidationResult(response.body().inputStream());
+            successCounter.increment();
 
-                logger.info("Account {} validation: {}", sanitizedAccountId, result.isValid());
-                return result;
+            // Cache successful validation until the configured TTL expires
+            if (validationCache != null) {
+                validationCache.put(cacheKey, result);
+            }
 
-            } else if (response.statusCode() == 404) {
-                var result = new AccountValidationResult(
-                        sanitizedAccountId,
-                        false,
-                        Optional.of("NOT_FOUND"),
-                        Optional.of("INACTIVE"));
+            logger.info("Account {} validation: {}", sanitizedAccountId, result.isValid());
+            return result;
 
-                logger.warn("Account {} not found", sanitizedAccountId);
-                return result;
+        } else if (response.statusCode() == 404) {
+            var result = new AccountValidationResult(
+                    sanitizedAccountId,
+                    false,
+                    Optional.of("NOT_FOUND"),
+                    Optional.of("INACTIVE"));
 
-            } else {
-                errorCounter.increment();
-                throw new BankingClientException(
-                        "Account validation failed with status: " + response.statusCode(),
-                        "VALIDATION_ERROR");
-            }
+            logger.warn("Account {} not found", sanitizedAccountId);
+            return result;
 
-        } catch (IOException | InterruptedException e) {
+        } else {
             errorCounter.increment();
-            logger.error("Error validating account: {}", sanitizedAccountId, e);
-            throw new BankingClientException("Network error during account validation", "NETWORK_ERROR", e);
+            throw new BankingClientException(
+                    "Account validation failed with status: " + response.statusCode(),
+                    "VALIDATION_ERROR", response.statusCode());
         }
     }
 
@@ -286,65 +445,305 @@ public class ModernBankingClient {
     public AccountBalance getAccountBalance(@NotBlank String accountId, boolean useAuth)
             throws BankingClientException {
 
-        var sanitizedAccountId = inputValidator.validateAndSanitizeAccountId(accountId);
-        var url = configuration.baseUrl() + "/accounts/balance/" + sanitizedAccountId;
-        var startTime = System.currentTimeMillis();
+        return await(getAccountBalanceAsync(accountId, useAuth));
+    }
 
+    /**
+     * Get account balance without blocking the calling thread
+     * 
+     * @param accountId Account ID
+     * @param useAuth   Whether to use JWT authentication
+     * @return Future completing with the balance, or exceptionally with a
+     *         {@link BankingClientException}
+     */
+    public CompletableFuture<AccountBalance> getAccountBalanceAsync(@NotBlank String accountId, boolean useAuth) {
+        final String sanitizedAccountId;
         try {
-            requestCounter.increment();
-
-            var requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .timeout(Duration.ofSeconds(configuration.requestTimeout()))
-                    .GET();
-
-            // Add authentication header if required
-            if (useAuth) {
-                var token = authenticationManager.obtainToken("enquiry");
-                if (token.isPresent()) {
-                    requestBuilder.header("Authorization", "Bearer " + token.get());
-                }
-            }
+            sanitizedAccountId = inputValidator.validateAndSanitizeAccountId(accountId);
+        } catch (BankingClientException e) {
+            return CompletableFuture.failedFuture(e);
+        }
 
-            var request = requestBuilder.build();
-            var response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        return balanceFlights.execute(new AccountRequestKey(sanitizedAccountId, useAuth), () -> {
+            var requestBuilder = balanceRequestBuilder(sanitizedAccountId);
+            var request = useAuth
+                    ? withTokenAsync(requestBuilder, "enquiry")
+                    : CompletableFuture.completedFuture(requestBuilder.build());
 
-            responseTimer.record(System.currentTimeMillis() - startTime, java.util.concurrent.TimeUnit.MILLISECONDS);
+            return sendAsync(Endpoint.BALANCE, request,
+                    response -> handleBalanceResponse(sanitizedAccountId, response),
+                    "Network error during balance retrieval",
+                    "Error retrieving balance for account: " + sanitizedAccountId);
+        });
+    }
 
-            if (response.statusCode() == 200) {
-                var balance = objectMapper.readValue(response.body(), AccountBalance.class);
-                successCounter.increment();
+    private HttpRequest.Builder balanceRequestBuilder(String sanitizedAccountId) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(configuration.baseUrl() + "/accounts/balance/" + sanitizedAccountId))
+                .timeout(Duration.ofSeconds(configuration.requestTimeout()))
+                .GET();
+    }
 
-                logger.info("Retrieved balance for account {}: {}", sanitizedAccountId, balance.amount());
-                return balance;
+    private AccountBalance handleBalanceResponse(String sanitizedAccountId, HttpResponse<JsonBody> response)
+            throws BankingClientException, IOException {
 
-            } else {
-                errorCounter.increment();
-                throw new BankingClientException(
-                        "Balance retrieval failed with status: " + response.statusCode(),
-                        "BALANCE_ERROR");
-            }
+        if (response.statusCode() == 200) {
+            var balance = BankingJson.readAccountBalance(response.body().inputStream());
+            successCounter.increment();
+
+            logger.info("Retrieved balance for account {}: {}", sanitizedAccountId, balance.amount());
+            return balance;
+
+        } else {
+            errorCounter.increment();
+            throw new BankingClientException(
+                    "Balance retrieval failed with status: " + response.statusCode(),
+                    "BALANCE_ERROR", response.statusCode());
+        }
+    }
+
+    /**
+     * Transaction history, newest first, fetched page by page as the stream
+     * is consumed
+     * 
+     * The next page is requested while the caller works through the current
+     * one, and at most two pages are held at a time. Nothing is sent until
+     * the first element is requested. Closing the stream cancels an
+     * outstanding prefetch. A failed page fetch is thrown from the consuming
+     * operation as a {@link CompletionException} whose cause is the
+     * {@link BankingClientException}.
+     * 
+     * @param pageSize Transactions per request, at most
+     *                 {@value #MAX_HISTORY_PAGE_SIZE}
+     * @return Lazily paged stream, to be closed when not fully consumed
+     */
+    public Stream<TransactionRecord> transactionHistory(int pageSize) {
+        if (pageSize < 1 || pageSize > MAX_HISTORY_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_HISTORY_PAGE_SIZE);
+        }
+        var pages = new PagedIterator<>(this::getTransactionHistoryPageAsync, pageSize,
+                TransactionRecord::transactionId);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pages,
+                Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(pages::close);
+    }
+
+    /**
+     * Fetch one page of transaction history
+     * 
+     * The page is requested with {@code limit} and {@code offset}; a server
+     * that only honours {@code limit} returns its most recent transactions
+     * for every offset, which {@link #transactionHistory(int)} detects.
+     * 
+     * @param offset Number of newer transactions to skip
+     * @param limit  Maximum number of transactions to return
+     * @return Future completing with the page, or exceptionally with a
+     *         {@link BankingClientException}
+     */
+    public CompletableFuture<List<TransactionRecord>> getTransactionHistoryPageAsync(long offset, int limit) {
+        var requestBuilder = HttpRequest.newBuilder()
+                .uri(URI.create(configuration.baseUrl() + "/transactions/history?limit=" + limit
+                        + "&offset=" + offset))
+                .timeout(Duration.ofSeconds(configuration.requestTimeout()))
+                .GET();
+
+        return sendAsync(Endpoint.HISTORY, withTokenAsync(requestBuilder, "enquiry"),
+                this::handleHistoryResponse,
+                "Network error during transaction history retrieval",
+                "Error retrieving transaction history");
+    }
 
-        } catch (IOException | InterruptedException e) {
+    private List<TransactionRecord> handleHistoryResponse(HttpResponse<JsonBody> response)
+            throws BankingClientException, IOException {
+
+        if (response.statusCode() == 200) {
+            var transactions = BankingJson.readTransactionHistory(response.body().inputStream());
+            successCounter.increment();
+
+            logger.debug("Retrieved {} transactions", transactions.size());
+            return transactions;
+
+        } else {
             errorCounter.increment();
-            logger.error("Error retrieving balance for account: {}", sanitizedAccountId, e);
-            throw new BankingClientException("Network error during balance retrieval", "NETWORK_ERROR", e);
+            throw new BankingClientException(
+                    "Transaction history retrieval failed with status: " + response.statusCode(),
+                    "HISTORY_ERROR", response.statusCode());
         }
     }
 
     /**
      * Transfer funds between accounts with comprehensive validation
      * 
+     * Source and destination accounts are validated concurrently before the
+     * transfer is posted. Retryable failures are retried with jittered
+     * exponential backoff; see {@link RetryExecutor} for which failures are
+     * safe to retry for transfers.
+     * 
      * @param transferRequest Transfer details
      * @param useAuth         Whether to use JWT authentication
      * @return Transfer result
      * @throws BankingClientException If transfer fails
      */
-    @Retryable(value = {
-            BankingClientException.class }, maxAttempts = 3, backoff = @Backoff(delay = 1000, multiplier = 2))
     public TransferResult transferFunds(@Valid TransferRequest transferRequest, boolean useAuth)
             throws BankingClientException {
 
+        return await(transferFundsAsync(transferRequest, useAuth));
+    }
+
+    /**
+     * Transfer funds asynchronously
+     * 
+     * Both account pre-validations run concurrently, then token acquisition
+     * and the transfer itself are chained on {@link HttpClient#sendAsync}; no
+     * pool thread blocks while the requests are in flight.
+     * 
+     * @param transferRequest Transfer details
+     * @param useAuth         Whether to use JWT authentication
+     * @return CompletableFuture with transfer result, completing exceptionally
+     *         with a {@link BankingClientException} on failure
+     */
+    public CompletableFuture<TransferResult> transferFundsAsync(TransferRequest transferRequest, boolean useAuth) {
+        final TransferPayload transferPayload;
+        try {
+            transferPayload = prepareTransferPayload(transferRequest);
+        } catch (BankingClientException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return validateAccountAsync(transferPayload.fromAccount(), false)
+                .thenCombine(validateAccountAsync(transferPayload.toAccount(), false),
+                        (fromAccountValidation, toAccountValidation) -> {
+                            try {
+                                checkTransferAccounts(transferPayload, fromAccountValidation, toAccountValidation);
+                            } catch (BankingClientException e) {
+                                throw new CompletionException(e);
+                            }
+                            return transferPayload;
+                        })
+                .thenCompose(payload -> submitTransferAsync(payload,
+                        useAuth ? authenticationManager.get().obtainTokenAsync("transfer") : null));
+    }
+
+    /**
+     * Transfer a batch of funds with shared validation and bounded parallelism
+     * 
+     * Each distinct account in the batch is validated once, a single transfer
+     * token is obtained up front, and at most
+     * {@link BankingClientConfiguration#batchConcurrency()} requests are in
+     * flight at any time. A failing item does not abort the batch.
+     * 
+     * @param transferRequests Transfers to execute
+     * @param useAuth          Whether to use JWT authentication
+     * @return Per-item outcomes in submission order with batch throughput
+     */
+    public TransferBatchResult transferFundsBatch(List<TransferRequest> transferRequests, boolean useAuth) {
+        return transferFundsBatchAsync(transferRequests, useAuth).join();
+    }
+
+    /**
+     * Transfer a batch of funds asynchronously
+     * 
+     * @param transferRequests Transfers to execute
+     * @param useAuth          Whether to use JWT authentication
+     * @return Future completing with per-item outcomes in submission order;
+     *         never completes exceptionally
+     * @see #transferFundsBatch(List, boolean)
+     */
+    public CompletableFuture<TransferBatchResult> transferFundsBatchAsync(List<TransferRequest> transferRequests,
+            boolean useAuth) {
+
+        var startTime = System.currentTimeMillis();
+        var count = transferRequests.size();
+        var concurrency = configuration.batchConcurrency();
+        var items = new TransferBatchResult.Item[count];
+        var payloads = new TransferPayload[count];
+
+        // Input validation and collection of the distinct accounts in the batch
+        var accounts = new LinkedHashSet<String>();
+        for (int i = 0; i < count; i++) {
+            try {
+                payloads[i] = prepareTransferPayload(transferRequests.get(i));
+                accounts.add(payloads[i].fromAccount());
+                accounts.add(payloads[i].toAccount());
+            } catch (BankingClientException e) {
+                items[i] = TransferBatchResult.Item.failure(i, e);
+            }
+        }
+
+        var accountIds = List.copyOf(accounts);
+        var validations = new ConcurrentHashMap<String, CompletableFuture<AccountValidationResult>>();
+        var token = useAuth ? authenticationManager.get().obtainTokenAsync("transfer") : null;
+
+        logger.info("Starting batch of {} transfers ({} distinct accounts, concurrency {})",
+                count, accountIds.size(), concurrency);
+
+        return BoundedConcurrency.forEach(accountIds.size(), concurrency, index -> {
+            var validation = validateAccountAsync(accountIds.get(index), false);
+            validations.put(accountIds.get(index), validation);
+            return validation.handle((result, error) -> null);
+        }).thenCompose(validated -> BoundedConcurrency.forEach(count, concurrency, index -> {
+            if (items[index] != null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            var payload = payloads[index];
+            return validations.get(payload.fromAccount())
+                    .thenCombine(validations.get(payload.toAccount()), (fromAccountValidation, toAccountValidation) -> {
+                        try {
+                            checkTransferAccounts(payload, fromAccountValidation, toAccountValidation);
+                        } catch (BankingClientException e) {
+                            throw new CompletionException(e);
+                        }
+                        return payload;
+                    })
+                    .thenCompose(validPayload -> submitTransferAsync(validPayload, token))
+                    .handle((result, error) -> {
+                        items[index] = error == null
+                                ? TransferBatchResult.Item.success(index, result)
+                                : TransferBatchResult.Item.failure(index, unwrap(error));
+                        return null;
+                    });
+        })).thenApply(completed -> {
+            var durationMs = System.currentTimeMillis() - startTime;
+            var result = new TransferBatchResult(Arrays.asList(items), durationMs, accountIds.size());
+
+            batchTimer.record(durationMs, TimeUnit.MILLISECONDS);
+            batchTransferCounter.increment(count);
+
+            logger.info("Batch completed: {} succeeded, {} failed in {} ms ({} transfers/s)",
+                    result.successfulTransfers(), result.failedTransfers(), durationMs,
+                    String.format("%.1f", result.throughputPerSecond()));
+            return result;
+        });
+    }
+
+    /**
+     * Post a validated transfer, attaching the token once it is available
+     * 
+     * @param token Pending transfer-scope token, or null to send without
+     *              authentication
+     */
+    private CompletableFuture<TransferResult> submitTransferAsync(TransferPayload payload,
+            CompletableFuture<Optional<String>> token) {
+
+        final HttpRequest.Builder requestBuilder;
+        try {
+            requestBuilder = transferRequestBuilder(payload);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(
+                    new BankingClientException("Network error during transfer", "NETWORK_ERROR", e));
+        }
+        var request = token != null
+                ? withToken(requestBuilder, token, "transfer")
+                : CompletableFuture.completedFuture(requestBuilder.build());
+
+        logger.info("Initiating transfer: {} -> {}, Amount: {}",
+                payload.fromAccount(), payload.toAccount(), payload.amount());
+
+        return sendAsync(Endpoint.TRANSFER, request, this::handleTransferResponse,
+                "Network error during transfer", "Error during transfer");
+    }
+
+    private TransferPayload prepareTransferPayload(TransferRequest transferRequest) throws BankingClientException {
         // Validate input
         inputValidator.validate(transferRequest);
 
@@ -352,99 +751,231 @@ public class ModernBankingClient {
         var sanitizedToAccount = inputValidator.validateAndSanitizeAccountId(transferRequest.getToAccount());
         var validatedAmount = inputValidator.validateAmount(transferRequest.getAmount());
 
-        // Pre-validate accounts
-        var fromAccountValidation = validateAccount(sanitizedFromAccount, false);
-        var toAccountValidation = validateAccount(sanitizedToAccount, false);
+        return new TransferPayload(
+                sanitizedFromAccount,
+                sanitizedToAccount,
+                validatedAmount,
+                transferRequest.getDescription().orElse(null));
+    }
+
+    private void checkTransferAccounts(TransferPayload transferPayload,
+            AccountValidationResult fromAccountValidation,
+            AccountValidationResult toAccountValidation) throws BankingClientException {
 
         if (!fromAccountValidation.isValid()) {
             throw new BankingClientException(
-                    "Invalid source account: " + sanitizedFromAccount,
+                    "Invalid source account: " + transferPayload.fromAccount(),
                     "INVALID_SOURCE_ACCOUNT");
         }
 
         if (!toAccountValidation.isValid()) {
             throw new BankingClientException(
-                    "Invalid destination account: " + sanitizedToAccount,
+                    "Invalid destination account: " + transferPayload.toAccount(),
                     "INVALID_DESTINATION_ACCOUNT");
         }
+    }
 
-        // Prepare transfer payload
-        var transferPayload = new TransferPayload(
-                sanitizedFromAccount,
-                sanitizedToAccount,
-                validatedAmount,
-                transferRequest.getDescription().orElse(null));
+    private HttpRequest.Builder transferRequestBuilder(TransferPayload transferPayload) throws IOException {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(configuration.baseUrl() + "/transfer"))
+                .timeout(Duration.ofSeconds(configuration.requestTimeout()))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(
+                        TransferPayloadWriter.INSTANCE.writeValueAsBytes(transferPayload)));
+    }
 
-        var url = configuration.baseUrl() + "/transfer";
-        var startTime = System.currentTimeMillis();
+    private TransferResult handleTransferResponse(HttpResponse<JsonBody> response)
+            throws BankingClientException, IOException {
+
+        if (response.statusCode() == 200) {
+            var result = BankingJson.readTransferResult(response.body().inputStream());
+            successCounter.increment();
 
+            logger.info("Transfer successful: {}", result.transactionId());
+            return result;
+
+        } else {
+            errorCounter.increment();
+            var errorBody = response.body().text();
+            logger.error("Transfer failed with status {}: {}", response.statusCode(), errorBody);
+            throw new BankingClientException(
+                    "Transfer failed with status: " + response.statusCode(),
+                    "TRANSFER_ERROR", response.statusCode());
+        }
+    }
+
+    /**
+     * Wait for an asynchronous call from a blocking method, surfacing its
+     * {@link BankingClientException} unchanged
+     */
+    private static <T> T await(CompletableFuture<T> future) throws BankingClientException {
         try {
-            requestCounter.increment();
-
-            var requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .timeout(Duration.ofSeconds(configuration.requestTimeout()))
-                    .header("Content-Type", "application/json")
-                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(transferPayload)));
-
-            // Add authentication header if required
-            if (useAuth) {
-                var token = authenticationManager.obtainToken("transfer");
-                if (token.isPresent()) {
-                    requestBuilder.header("Authorization", "Bearer " + token.get());
-                    logger.info("Using JWT authentication for transfer");
-                } else {
-                    logger.warn("JWT authentication requested but token unavailable");
-                }
-            }
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BankingClientException("Interrupted while awaiting response", "NETWORK_ERROR", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
 
-            var request = requestBuilder.build();
+    private static BankingClientException unwrap(Throwable error) {
+        var cause = Futures.unwrap(error);
+        return cause instanceof BankingClientException bankingException
+                ? bankingException
+                : new BankingClientException("Request failed", "NETWORK_ERROR", cause);
+    }
 
-            logger.info("Initiating transfer: {} -> {}, Amount: {}",
-                    sanitizedFromAccount, sanitizedToAccount, validatedAmount);
+    /**
+     * Attach a bearer token for the given scope once it has been obtained
+     * asynchronously
+     */
+    private CompletableFuture<HttpRequest> withTokenAsync(HttpRequest.Builder requestBuilder, String scope) {
+        return withToken(requestBuilder, authenticationManager.get().obtainTokenAsync(scope), scope);
+    }
 
-            var response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    private CompletableFuture<HttpRequest> withToken(HttpRequest.Builder requestBuilder,
+            CompletableFuture<Optional<String>> pendingToken, String scope) {
+        return pendingToken
+                .thenApply(token -> {
+                    if (token.isPresent()) {
+                        requestBuilder.header("Authorization", "Bearer " + token.get());
+                        logger.debug("Added JWT authentication for scope: {}", scope);
+                    } else {
+                        logger.warn("JWT authentication requested but token unavailable");
+                    }
+                    return requestBuilder.build();
+                });
+    }
 
-            responseTimer.record(System.currentTimeMillis() - startTime, java.util.concurrent.TimeUnit.MILLISECONDS);
+    /**
+     * Send a request with {@link HttpClient#sendAsync} and map the response,
+     * retrying retryable failures without blocking
+     * 
+     * Every attempt may be hedged, and each copy waits for a slot from the
+     * endpoint's concurrency limiter and then passes through its circuit
+     * breaker, so once the circuit opens both first attempts and retries fail
+     * fast.
+     */
+    private <T> CompletableFuture<T> sendAsync(Endpoint endpoint,
+            CompletableFuture<HttpRequest> request,
+            ResponseHandler<T> responseHandler,
+            String networkErrorMessage,
+            String logMessage) {
+
+        return request.thenCompose(built -> retryExecutor.execute(endpoint,
+                () -> requestHedger.execute(endpoint,
+                        () -> concurrencyLimiters.execute(endpoint,
+                                () -> circuitBreakers.execute(endpoint,
+                                        () -> sendOnce(endpoint, built, responseHandler,
+                                                networkErrorMessage, logMessage))))));
+    }
 
-            if (response.statusCode() == 200) {
-                var result = objectMapper.readValue(response.body(), TransferResult.class);
-                successCounter.increment();
+    /**
+     * Perform a single attempt, recording request metrics
+     */
+    private <T> CompletableFuture<T> sendOnce(Endpoint endpoint,
+            HttpRequest request,
+            ResponseHandler<T> responseHandler,
+            String networkErrorMessage,
+            String logMessage) {
 
-                logger.info("Transfer successful: {}", result.transactionId());
-                return result;
+        var startTime = System.currentTimeMillis();
+        var startNanos = System.nanoTime();
+        requestCounter.increment();
+
+        var exchange = httpClient.sendAsync(request, bodyHandler);
+        var result = new CompletableFuture<T>();
+        exchange.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                // Abandoned hedge or cancelled caller, not a network failure
+                return;
+            }
+            try {
+                if (error != null) {
+                    latencyHistograms.recordError(endpoint, System.nanoTime() - startNanos);
+                    throw Futures.unwrap(error);
+                }
+                latencyHistograms.record(endpoint, response.statusCode(), System.nanoTime() - startNanos);
+                responseTimer.record(System.currentTimeMillis() - startTime, TimeUnit.MILLISECONDS);
+                result.complete(responseHandler.handle(response));
 
-            } else {
+            } catch (BankingClientException e) {
+                result.completeExceptionally(e);
+            } catch (Throwable e) {
                 errorCounter.increment();
-                var errorBody = response.body();
-                logger.error("Transfer failed with status {}: {}", response.statusCode(), errorBody);
-                throw new BankingClientException(
-                        "Transfer failed with status: " + response.statusCode(),
-                        "TRANSFER_ERROR");
+                var tooLarge = tooLargeCause(e);
+                if (tooLarge != null) {
+                    // Not retried: the same request would return the same body
+                    logger.error("{}: {}", logMessage, tooLarge.getMessage());
+                    result.completeExceptionally(new BankingClientException(tooLarge.getMessage(),
+                            "RESPONSE_TOO_LARGE", e));
+                } else {
+                    logger.error(logMessage, e);
+                    result.completeExceptionally(new BankingClientException(networkErrorMessage, "NETWORK_ERROR", e));
+                }
             }
+        });
+        return Futures.propagateCancellation(result, exchange);
+    }
 
-        } catch (IOException | InterruptedException e) {
-            errorCounter.increment();
-            logger.error("Error during transfer", e);
-            throw new BankingClientException("Network error during transfer", "NETWORK_ERROR", e);
+    private static JsonBody.TooLargeException tooLargeCause(Throwable error) {
+        for (var cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof JsonBody.TooLargeException tooLarge) {
+                return tooLarge;
+            }
         }
+        return null;
     }
 
     /**
-     * Transfer funds asynchronously
+     * Response mapping step shared by the blocking and asynchronous paths
+     */
+    @FunctionalInterface
+    private interface ResponseHandler<T> {
+        T handle(HttpResponse<JsonBody> response) throws BankingClientException, IOException;
+    }
+
+    /**
+     * Run a blocking client call off the calling thread
      * 
-     * @param transferRequest Transfer details
-     * @param useAuth         Whether to use JWT authentication
-     * @return CompletableFuture with transfer result
+     * Calls run on a fresh virtual thread when virtual threads are enabled,
+     * so blocking-style code such as {@link #validateAccount},
+     * {@link #transferFunds} or {@link AuthenticationManager#obtainToken} can
+     * scale to many concurrent requests. Without virtual threads the common
+     * pool is used.
+     * 
+     * @param call Blocking call to run
+     * @param <T>  Result type
+     * @return Future completing with the call's result, or exceptionally with
+     *         the exception it threw
      */
-    public CompletableFuture<TransferResult> transferFundsAsync(TransferRequest transferRequest, boolean useAuth) {
+    public <T> CompletableFuture<T> executeBlocking(BlockingCall<T> call) {
+        var executor = virtualThreadExecutor != null ? virtualThreadExecutor : ForkJoinPool.commonPool();
         return CompletableFuture.supplyAsync(() -> {
             try {
-                return transferFunds(transferRequest, useAuth);
-            } catch (BankingClientException e) {
-                throw new RuntimeException(e);
+                return call.call();
+            } catch (Exception e) {
+                throw new CompletionException(e);
             }
-        });
+        }, executor);
+    }
+
+    /**
+     * Whether this client runs on virtual threads
+     * 
+     * @return True if virtual threads were requested and are supported
+     */
+    public boolean isUsingVirtualThreads() {
+        return virtualThreadExecutor != null;
+    }
+
+    /**
+     * Blocking client call for {@link #executeBlocking}
+     */
+    @FunctionalInterface
+    public interface BlockingCall<T> {
+        T call() throws Exception;
     }
 
     /**
@@ -485,14 +1016,54 @@ public class ModernBankingClient {
         var totalRequests = (long) requestCounter.count();
         var successfulRequests = (long) successCounter.count();
         var failedRequests = (long) errorCounter.count();
-        var avgResponseTime = responseTimer.mean(java.util.concurrent.TimeUnit.MILLISECONDS);
+        var avgResponseTime = responseTimer.mean(TimeUnit.MILLISECONDS);
+        var cacheStats = validationCache != null ? validationCache.stats() : CacheStats.empty();
+        var latencies = latencyHistograms.snapshot();
 
         return new PerformanceMetrics(
                 totalRequests,
                 successfulRequests,
                 failedRequests,
                 totalRequests > 0 ? (double) successfulRequests / totalRequests : 0.0,
-                avgResponseTime);
+                avgResponseTime,
+                cacheStats.hitCount(),
+                cacheStats.missCount(),
+                cacheStats.evictionCount(),
+                (long) coalescedCounter.count(),
+                retryExecutor.retryCount(),
+                requestHedger.hedgesIssued(),
+                requestHedger.hedgesWon(),
+                circuitBreakers.states(),
+                concurrencyLimiters.limits(),
+                latencies.byEndpoint(),
+                latencies.byStatusClass());
+    }
+
+    /**
+     * Get the registry holding the client's meters
+     * 
+     * @return The configured registry if it is a Prometheus registry or none
+     *         was configured, otherwise a composite that also feeds it
+     */
+    public MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+
+    /**
+     * Render current metrics in the Prometheus text exposition format
+     * 
+     * @return Registry meters followed by HDR latency percentiles
+     */
+    public String scrapeMetrics() {
+        return PrometheusTextFormat.format(prometheusRegistry, latencyHistograms.snapshot());
+    }
+
+    private MetricsServer startMetricsServer(String host, int port) {
+        try {
+            return MetricsServer.start(host, port, this::scrapeMetrics);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start metrics endpoint on port " + port, e);
+        }
     }
 
     /**
@@ -501,34 +1072,53 @@ public class ModernBankingClient {
      * @return Authentication manager instance
      */
     public AuthenticationManager getAuthenticationManager() {
-        return authenticationManager;
+        return authenticationManager.get();
     }
 
     /**
      * Clear internal caches
      */
     public void clearCache() {
-        cache.clear();
-        authenticationManager.clearTokenCache();
+        invalidateValidationCache();
+        authenticationManager.ifCreated().ifPresent(AuthenticationManager::clearTokenCache);
         logger.debug("All caches cleared");
     }
 
+    private void invalidateValidationCache() {
+        if (validationCache != null) {
+            validationCache.invalidateAll();
+        }
+    }
+
     /**
      * Shutdown the client and release resources
      */
     public void shutdown() {
-        cache.clear();
-        authenticationManager.clearTokenCache();
+        invalidateValidationCache();
+        authenticationManager.ifCreated().ifPresent(AuthenticationManager::shutdown);
+        if (metricsServer != null) {
+            metricsServer.close();
+        }
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+        }
         logger.info("Banking client shutdown completed");
     }
 
+    /**
+     * Key for cached and coalesced account reads; authenticated and anonymous
+     * lookups are kept separate
+     */
+    private record AccountRequestKey(String accountId, boolean authenticated) {
+    }
+
     /**
      * Internal transfer payload for JSON serialization
      */
     private record TransferPayload(
             @JsonProperty("fromAccount") String fromAccount,
             @JsonProperty("toAccount") String toAccount,
-            @JsonProperty("amount") Double amount,
+            @JsonProperty("amount") Money amount,
             @JsonProperty("description") String description) {
     }
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.modernization.banking.client;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Iterator over an offset-paged listing that fetches the next page while the
+ * current one is consumed
+ *
+ * Nothing is requested until the first {@link #hasNext()}. At most two pages
+ * are held at any time, the one being consumed and the one being fetched, so
+ * memory is bounded by the page size however long the listing is. A short
+ * page ends the listing, as does a page starting with the same element as the
+ * previous one, which is what a server that ignores the offset returns.
+ * Failed fetches surface from {@link #hasNext()} as the future's
+ * {@link java.util.concurrent.CompletionException}.
+ *
+ * @param <T> Element type
+ */
+final class PagedIterator<T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * Fetches one page
+     */
+    @FunctionalInterface
+    interface PageFetcher<T> {
+        CompletableFuture<List<T>> fetch(long offset, int limit);
+    }
+
+    private final PageFetcher<T> fetcher;
+    private final int pageSize;
+    private final Function<T, ?> identity;
+
+    private List<T> page = List.of();
+    private int index;
+    private long offset;
+    private Object previousFirst;
+    private CompletableFuture<List<T>> pending;
+    private boolean finished;
+
+    /**
+     * @param fetcher  Fetches a page at an offset
+     * @param pageSize Elements requested per page
+     * @param identity Key identifying an element, used to detect a repeated
+     *                 page
+     */
+    PagedIterator(PageFetcher<T> fetcher, int pageSize, Function<T, ?> identity) {
+        this.fetcher = fetcher;
+        this.pageSize = pageSize;
+        this.identity = identity;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (index == page.size()) {
+            if (finished) {
+                return false;
+            }
+            if (pending == null) {
+                pending = fetcher.fetch(offset, pageSize);
+            }
+            var next = pending.join();
+            pending = null;
+
+            var first = next.isEmpty() ? null : identity.apply(next.get(0));
+            if (first == null || Objects.equals(first, previousFirst)) {
+                finished = true;
+                page = List.of();
+                index = 0;
+                return false;
+            }
+
+            page = next;
+            index = 0;
+            offset += next.size();
+            previousFirst = first;
+            if (next.size() < pageSize) {
+                finished = true;
+            } else {
+                pending = fetcher.fetch(offset, pageSize);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.get(index++);
+    }
+
+    /**
+     * Stop iterating and cancel a prefetch still in flight
+     */
+    @Override
+    public void close() {
+        finished = true;
+        page = List.of();
+        index = 0;
+        if (pending != null) {
+            pending.cancel(true);
+            pending = null;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.modernization.banking.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * In-flight request table that coalesces identical concurrent calls
+ *
+ * The first caller for a key becomes the leader and performs the upstream
+ * request; callers arriving while it is in flight share the leader's result
+ * instead of issuing their own request. The entry is removed as soon as the
+ * request completes, so results are never served stale from here.
+ *
+ * @param <K> Request key type
+ * @param <V> Result type
+ */
+final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalescedCounter;
+
+    SingleFlight(Counter coalescedCounter) {
+        this.coalescedCounter = coalescedCounter;
+    }
+
+    /**
+     * Share an asynchronous request between concurrent callers
+     *
+     * @param key    Request key
+     * @param loader Starts the upstream request; only invoked by the leader
+     * @return Future completing with the shared result
+     */
+    CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> loader) {
+        var promise = new CompletableFuture<V>();
+        var existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            coalescedCounter.increment();
+            return existing.copy();
+        }
+
+        try {
+            loader.get().whenComplete((result, error) -> complete(key, promise, result, error));
+        } catch (RuntimeException e) {
+            complete(key, promise, null, e);
+        }
+        return promise.copy();
+    }
+
+    /**
+     * Number of requests currently in flight
+     */
+    int size() {
+        return inFlight.size();
+    }
+
+    private void complete(K key, CompletableFuture<V> promise, V result, Throwable error) {
+        inFlight.remove(key, promise);
+        if (error != null) {
+            promise.completeExceptionally(error);
+        } else {
+            promise.complete(result);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.modernization.banking.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -27,38 +29,141 @@ public record BankingClientConfiguration(
         @Pattern(regexp = "DEBUG|INFO|WARN|ERROR", message = "Log level must be DEBUG, INFO, WARN, or ERROR") String logLevel,
 
         boolean enableMetrics,
-        boolean enableCaching) {
+        boolean enableCaching,
+        boolean useVirtualThreads,
+
+        @Min(value = 1, message = "Cache size must be at least 1 entry") int cacheMaxSize,
+
+        @Min(value = 1, message = "Cache TTL must be at least 1 second") long cacheTtlSeconds,
+        boolean verifyTokenSignature,
+
+        @Min(value = 1, message = "Batch concurrency must be at least 1") @Max(value = 1024, message = "Batch concurrency cannot exceed 1024") int batchConcurrency,
+
+        @Min(value = 0, message = "Retry budget cannot be negative") @Max(value = 100, message = "Retry budget cannot exceed 100 percent") int retryBudgetPercent,
+
+        boolean enableCircuitBreaker,
+
+        @Min(value = 1, message = "Circuit breaker threshold must be at least 1 percent") @Max(value = 100, message = "Circuit breaker threshold cannot exceed 100 percent") int circuitBreakerFailureRatePercent,
+
+        @Min(value = 1, message = "Slow call threshold must be at least 1ms") long circuitBreakerSlowCallMs,
+
+        @Min(value = 1, message = "Circuit open duration must be at least 1ms") long circuitBreakerOpenMs,
+
+        boolean enableConcurrencyLimit,
+
+        @Min(value = 1, message = "Initial concurrency limit must be at least 1") int concurrencyLimitInitial,
+
+        @Min(value = 1, message = "Maximum concurrency limit must be at least 1") @Max(value = 10000, message = "Maximum concurrency limit cannot exceed 10000") int concurrencyLimitMax,
+
+        @Min(value = 0, message = "Concurrency queue size cannot be negative") @Max(value = 10000, message = "Concurrency queue size cannot exceed 10000") int concurrencyQueueSize,
+
+        @Min(value = 0, message = "Concurrency queue timeout cannot be negative") long concurrencyQueueTimeoutMs,
+
+        boolean enableHedging,
+
+        @Min(value = 0, message = "Hedge delay cannot be negative") long hedgeDelayMs,
+
+        @Min(value = 0, message = "Hedge budget cannot be negative") @Max(value = 100, message = "Hedge budget cannot exceed 100 percent") int hedgeBudgetPercent,
+
+        MeterRegistry meterRegistry,
+
+        @Min(value = 0, message = "Metrics port cannot be negative") @Max(value = 65535, message = "Metrics port cannot exceed 65535") int metricsPort,
+
+        String metricsHost,
+
+        @Min(value = 1, message = "Maximum response size must be at least 1 byte") @Max(value = Integer.MAX_VALUE, message = "Maximum response size cannot exceed 2 GiB") long maxResponseBytes) {
+
+    /**
+     * Create configuration with default execution, caching, token, batch and
+     * resilience tuning
+     */
+    public BankingClientConfiguration(String baseUrl, int connectTimeout, int requestTimeout, int maxRetries,
+            long retryDelayMs, String jwtSecret, String logLevel, boolean enableMetrics, boolean enableCaching) {
+        this(builder()
+                .baseUrl(baseUrl)
+                .connectTimeout(connectTimeout)
+                .requestTimeout(requestTimeout)
+                .maxRetries(maxRetries)
+                .retryDelayMs(retryDelayMs)
+                .jwtSecret(jwtSecret)
+                .logLevel(logLevel)
+                .enableMetrics(enableMetrics)
+                .enableCaching(enableCaching));
+    }
+
+    private BankingClientConfiguration(Builder builder) {
+        this(builder.baseUrl, builder.connectTimeout, builder.requestTimeout, builder.maxRetries,
+                builder.retryDelayMs, builder.jwtSecret, builder.logLevel, builder.enableMetrics,
+                builder.enableCaching, builder.useVirtualThreads, builder.cacheMaxSize, builder.cacheTtlSeconds,
+                builder.verifyTokenSignature, builder.batchConcurrency, builder.retryBudgetPercent,
+                builder.enableCircuitBreaker, builder.circuitBreakerFailureRatePercent,
+                builder.circuitBreakerSlowCallMs, builder.circuitBreakerOpenMs, builder.enableConcurrencyLimit,
+                builder.concurrencyLimitInitial, builder.concurrencyLimitMax, builder.concurrencyQueueSize,
+                builder.concurrencyQueueTimeoutMs, builder.enableHedging, builder.hedgeDelayMs,
+                builder.hedgeBudgetPercent, builder.meterRegistry, builder.metricsPort, builder.metricsHost,
+                builder.maxResponseBytes);
+    }
 
     /**
      * Create default configuration for development
      */
     public static BankingClientConfiguration defaultConfiguration() {
-        return new BankingClientConfiguration(
-                "http://localhost:8123",
-                30,
-                30,
-                3,
-                1000L,
-                "modern_banking_secret",
-                "INFO",
-                true,
-                true);
+        return builder().build();
     }
 
     /**
      * Create production configuration
      */
     public static BankingClientConfiguration productionConfiguration(String baseUrl) {
-        return new BankingClientConfiguration(
-                baseUrl,
-                15,
-                60,
-                5,
-                2000L,
-                System.getenv("JWT_SECRET") != null ? System.getenv("JWT_SECRET") : "change_me_in_production",
-                "WARN",
-                true,
-                true);
+        return builder()
+                .baseUrl(baseUrl)
+                .connectTimeout(15)
+                .requestTimeout(60)
+                .maxRetries(5)
+                .retryDelayMs(2000L)
+                .jwtSecret(System.getenv("JWT_SECRET") != null
+                        ? System.getenv("JWT_SECRET")
+                        : "change_me_in_production")
+                .logLevel("WARN")
+                .build();
+    }
+
+    /**
+     * Create a builder pre-populated with this configuration
+     */
+    public Builder toBuilder() {
+        return new Builder()
+                .baseUrl(baseUrl)
+                .connectTimeout(connectTimeout)
+                .requestTimeout(requestTimeout)
+                .maxRetries(maxRetries)
+                .retryDelayMs(retryDelayMs)
+                .jwtSecret(jwtSecret)
+                .logLevel(logLevel)
+                .enableMetrics(enableMetrics)
+                .enableCaching(enableCaching)
+                .useVirtualThreads(useVirtualThreads)
+                .cacheMaxSize(cacheMaxSize)
+                .cacheTtlSeconds(cacheTtlSeconds)
+                .verifyTokenSignature(verifyTokenSignature)
+                .batchConcurrency(batchConcurrency)
+                .retryBudgetPercent(retryBudgetPercent)
+                .enableCircuitBreaker(enableCircuitBreaker)
+                .circuitBreakerFailureRatePercent(circuitBreakerFailureRatePercent)
+                .circuitBreakerSlowCallMs(circuitBreakerSlowCallMs)
+                .circuitBreakerOpenMs(circuitBreakerOpenMs)
+                .enableConcurrencyLimit(enableConcurrencyLimit)
+                .concurrencyLimitInitial(concurrencyLimitInitial)
+                .concurrencyLimitMax(concurrencyLimitMax)
+                .concurrencyQueueSize(concurrencyQueueSize)
+                .concurrencyQueueTimeoutMs(concurrencyQueueTimeoutMs)
+                .enableHedging(enableHedging)
+                .hedgeDelayMs(hedgeDelayMs)
+                .hedgeBudgetPercent(hedgeBudgetPercent)
+                .meterRegistry(meterRegistry)
+                .metricsPort(metricsPort)
+                .metricsHost(metricsHost)
+                .maxResponseBytes(maxResponseBytes);
     }
 
     /**
@@ -74,6 +179,28 @@ public record BankingClientConfiguration(
         private String logLevel = "INFO";
         private boolean enableMetrics = true;
         private boolean enableCaching = true;
+        private boolean useVirtualThreads = false;
+        private int cacheMaxSize = 10_000;
+        private long cacheTtlSeconds = 300L;
+        private boolean verifyTokenSignature = false;
+        private int batchConcurrency = 16;
+        private int retryBudgetPercent = 20;
+        private boolean enableCircuitBreaker = true;
+        private int circuitBreakerFailureRatePercent = 50;
+        private long circuitBreakerSlowCallMs = 5_000L;
+        private long circuitBreakerOpenMs = 10_000L;
+        private boolean enableConcurrencyLimit = false;
+        private int concurrencyLimitInitial = 20;
+        private int concurrencyLimitMax = 200;
+        private int concurrencyQueueSize = 1_000;
+        private long concurrencyQueueTimeoutMs = 5_000L;
+        private boolean enableHedging = false;
+        private long hedgeDelayMs = 0L;
+        private int hedgeBudgetPercent = 10;
+        private MeterRegistry meterRegistry = null;
+        private int metricsPort = 0;
+        private String metricsHost = null;
+        private long maxResponseBytes = 4L * 1024 * 1024;
 
         public Builder baseUrl(String baseUrl) {
             this.baseUrl = baseUrl;
@@ -120,10 +247,188 @@ public record BankingClientConfiguration(
             return this;
         }
 
+        /**
+         * Run the HTTP client and blocking calls on virtual threads (requires
+         * Java 21; falls back to platform threads on older runtimes)
+         */
+        public Builder useVirtualThreads(boolean useVirtualThreads) {
+            this.useVirtualThreads = useVirtualThreads;
+            return this;
+        }
+
+        public Builder cacheMaxSize(int cacheMaxSize) {
+            this.cacheMaxSize = cacheMaxSize;
+            return this;
+        }
+
+        public Builder cacheTtlSeconds(long cacheTtlSeconds) {
+            this.cacheTtlSeconds = cacheTtlSeconds;
+            return this;
+        }
+
+        /**
+         * Verify issued JWT signatures locally with jwtSecret before trusting
+         * their exp/iat claims
+         */
+        public Builder verifyTokenSignature(boolean verifyTokenSignature) {
+            this.verifyTokenSignature = verifyTokenSignature;
+            return this;
+        }
+
+        /**
+         * Maximum number of requests in flight for batch operations
+         */
+        public Builder batchConcurrency(int batchConcurrency) {
+            this.batchConcurrency = batchConcurrency;
+            return this;
+        }
+
+        /**
+         * Maximum retry traffic as a percentage of original requests
+         */
+        public Builder retryBudgetPercent(int retryBudgetPercent) {
+            this.retryBudgetPercent = retryBudgetPercent;
+            return this;
+        }
+
+        /**
+         * Fail fast with CIRCUIT_OPEN while an endpoint is failing or slow
+         */
+        public Builder enableCircuitBreaker(boolean enableCircuitBreaker) {
+            this.enableCircuitBreaker = enableCircuitBreaker;
+            return this;
+        }
+
+        /**
+         * Failure or slow-call rate at which an endpoint circuit opens
+         */
+        public Builder circuitBreakerFailureRatePercent(int circuitBreakerFailureRatePercent) {
+            this.circuitBreakerFailureRatePercent = circuitBreakerFailureRatePercent;
+            return this;
+        }
+
+        /**
+         * Duration above which a call counts as slow
+         */
+        public Builder circuitBreakerSlowCallMs(long circuitBreakerSlowCallMs) {
+            this.circuitBreakerSlowCallMs = circuitBreakerSlowCallMs;
+            return this;
+        }
+
+        /**
+         * Time an open circuit waits before letting probe calls through
+         */
+        public Builder circuitBreakerOpenMs(long circuitBreakerOpenMs) {
+            this.circuitBreakerOpenMs = circuitBreakerOpenMs;
+            return this;
+        }
+
+        /**
+         * Adapt the number of in-flight requests per endpoint to measured
+         * latency; off by default
+         */
+        public Builder enableConcurrencyLimit(boolean enableConcurrencyLimit) {
+            this.enableConcurrencyLimit = enableConcurrencyLimit;
+            return this;
+        }
+
+        /**
+         * Starting concurrency limit per endpoint
+         */
+        public Builder concurrencyLimitInitial(int concurrencyLimitInitial) {
+            this.concurrencyLimitInitial = concurrencyLimitInitial;
+            return this;
+        }
+
+        /**
+         * Upper bound for the adaptive concurrency limit
+         */
+        public Builder concurrencyLimitMax(int concurrencyLimitMax) {
+            this.concurrencyLimitMax = concurrencyLimitMax;
+            return this;
+        }
+
+        /**
+         * Calls allowed to wait for a slot before new calls are rejected;
+         * 0 rejects calls over the limit immediately
+         */
+        public Builder concurrencyQueueSize(int concurrencyQueueSize) {
+            this.concurrencyQueueSize = concurrencyQueueSize;
+            return this;
+        }
+
+        /**
+         * Longest a call waits for a slot before failing with
+         * CONCURRENCY_LIMITED; 0 waits without limit
+         */
+        public Builder concurrencyQueueTimeoutMs(long concurrencyQueueTimeoutMs) {
+            this.concurrencyQueueTimeoutMs = concurrencyQueueTimeoutMs;
+            return this;
+        }
+
+        /**
+         * Send a duplicate validate/balance request when the first is slow and
+         * take whichever answers first
+         */
+        public Builder enableHedging(boolean enableHedging) {
+            this.enableHedging = enableHedging;
+            return this;
+        }
+
+        /**
+         * Delay before a hedge is sent; 0 uses the observed p95 latency
+         */
+        public Builder hedgeDelayMs(long hedgeDelayMs) {
+            this.hedgeDelayMs = hedgeDelayMs;
+            return this;
+        }
+
+        /**
+         * Maximum hedge traffic as a percentage of hedgeable requests
+         */
+        public Builder hedgeBudgetPercent(int hedgeBudgetPercent) {
+            this.hedgeBudgetPercent = hedgeBudgetPercent;
+            return this;
+        }
+
+        /**
+         * Registry for client meters; by default the client keeps a private
+         * PrometheusMeterRegistry, which also receives the meters when another
+         * kind of registry is given. Register at most one client per registry.
+         */
+        public Builder meterRegistry(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+            return this;
+        }
+
+        /**
+         * Port of the embedded Prometheus endpoint; 0 disables it
+         */
+        public Builder metricsPort(int metricsPort) {
+            this.metricsPort = metricsPort;
+            return this;
+        }
+
+        /**
+         * Address the Prometheus endpoint binds to; null keeps it on the
+         * loopback interface
+         */
+        public Builder metricsHost(String metricsHost) {
+            this.metricsHost = metricsHost;
+            return this;
+        }
+
+        /**
+         * Largest response body the client will read; bigger responses are
+         * rejected as soon as their Content-Length or received size exceeds it
+         */
+        public Builder maxResponseBytes(long maxResponseBytes) {
+            this.maxResponseBytes = maxResponseBytes;
+            return this;
+        }
+
         public BankingClientConfiguration build() {
-            return new BankingClientConfiguration(
-                    baseUrl, connectTimeout, requestTimeout, maxRetries,
-                    retryDelayMs, jwtSecret, logLevel, enableMetrics, enableCaching);
+            return new BankingClientConfiguration(this);
         }
     }
 
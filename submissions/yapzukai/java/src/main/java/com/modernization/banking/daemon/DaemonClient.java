@@ -0,0 +1,121 @@
+package com.modernization.banking.daemon;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.OptionalInt;
+
+/**
+ * Forwards CLI commands to a running daemon
+ *
+ * Kept free of logging, JSON and client dependencies so that forwarding a
+ * command loads as few classes as possible.
+ */
+public final class DaemonClient {
+
+    /**
+     * Environment variable overriding the default socket path
+     */
+    public static final String SOCKET_ENVIRONMENT_VARIABLE = "BANKING_CLIENT_SOCKET";
+
+    private DaemonClient() {
+    }
+
+    /**
+     * Socket path from {@value #SOCKET_ENVIRONMENT_VARIABLE}, or a per-user
+     * socket in the temporary directory
+     */
+    public static Path defaultSocket() {
+        var configured = System.getenv(SOCKET_ENVIRONMENT_VARIABLE);
+        if (configured != null && !configured.isBlank()) {
+            return Path.of(configured);
+        }
+        return Path.of(System.getProperty("java.io.tmpdir"), "banking-client-" + System.getProperty("user.name")
+                + ".sock");
+    }
+
+    /**
+     * Run a command on the daemon, copying its output to the given writers
+     *
+     * Once the command has been sent it is never retried or run locally,
+     * since it may already have moved funds.
+     *
+     * @param socket    Path of the daemon's socket
+     * @param arguments Command-line arguments
+     * @param out       Receives the command's standard output
+     * @param err       Receives the command's standard error
+     * @return The command's exit code, or empty if no daemon is listening and
+     *         the command should run in-process
+     */
+    public static OptionalInt forward(Path socket, List<String> arguments, PrintWriter out, PrintWriter err) {
+        try {
+            return send(socket, arguments, out, err);
+        } finally {
+            out.flush();
+            err.flush();
+        }
+    }
+
+    private static OptionalInt send(Path socket, List<String> arguments, PrintWriter out, PrintWriter err) {
+        if (!Files.exists(socket)) {
+            return OptionalInt.empty();
+        }
+
+        SocketChannel channel;
+        try {
+            channel = SocketChannel.open(UnixDomainSocketAddress.of(socket));
+        } catch (IOException e) {
+            // Socket file left behind by a daemon that no longer runs
+            return OptionalInt.empty();
+        }
+
+        try (channel) {
+            // Relative paths in the command refer to the caller's directory, not the daemon's
+            var request = DaemonProtocol.CWD_PREFIX + Path.of("").toAbsolutePath() + "\n"
+                    + DaemonProtocol.encodeArguments(arguments) + "\n";
+            var buffer = ByteBuffer.wrap(request.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+
+            var reader = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel),
+                    StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(DaemonProtocol.OUT_PREFIX)) {
+                    out.println(line.substring(DaemonProtocol.OUT_PREFIX.length()));
+                } else if (line.startsWith(DaemonProtocol.ERR_PREFIX)) {
+                    err.println(line.substring(DaemonProtocol.ERR_PREFIX.length()));
+                } else if (line.startsWith(DaemonProtocol.EXIT_PREFIX)) {
+                    return OptionalInt.of(Integer.parseInt(line.substring(DaemonProtocol.EXIT_PREFIX.length())
+                            .trim()));
+                }
+            }
+            err.println("Daemon closed the connection before the command finished");
+        } catch (IOException | NumberFormatException e) {
+            err.println("Lost connection to daemon: " + e.getMessage());
+        }
+        return OptionalInt.of(2);
+    }
+
+    /**
+     * Whether a daemon accepts connections on the socket
+     */
+    static boolean isListening(Path socket) {
+        try (var channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            return channel.connect(UnixDomainSocketAddress.of(socket));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
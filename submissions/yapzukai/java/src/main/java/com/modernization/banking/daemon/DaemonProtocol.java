@@ -0,0 +1,142 @@
+package com.modernization.banking.daemon;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Line protocol between the CLI and the daemon
+ *
+ * The client sends one line holding the command-line arguments as a JSON
+ * array of strings, optionally preceded by a {@code cwd <path>} line with its
+ * working directory, against which the daemon resolves relative paths in the
+ * command; without it they resolve against the daemon's own working
+ * directory. The daemon answers with lines prefixed {@code out } or
+ * {@code err } for the command's standard output and error, then a final
+ * {@code exit <code>} line, and closes the connection. The format is simple
+ * enough to drive from a shell, e.g.
+ * {@code echo '["--health"]' | nc -U /tmp/banking-client-$USER.sock}.
+ */
+public final class DaemonProtocol {
+
+    public static final String CWD_PREFIX = "cwd ";
+    public static final String OUT_PREFIX = "out ";
+    public static final String ERR_PREFIX = "err ";
+    public static final String EXIT_PREFIX = "exit ";
+
+    private DaemonProtocol() {
+    }
+
+    /**
+     * Encode arguments as a single-line JSON array
+     */
+    public static String encodeArguments(List<String> arguments) {
+        var json = new StringBuilder("[");
+        for (var i = 0; i < arguments.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('"');
+            for (var c : arguments.get(i).toCharArray()) {
+                switch (c) {
+                    case '"' -> json.append("\\\"");
+                    case '\\' -> json.append("\\\\");
+                    case '\n' -> json.append("\\n");
+                    case '\r' -> json.append("\\r");
+                    case '\t' -> json.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            json.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            json.append(c);
+                        }
+                    }
+                }
+            }
+            json.append('"');
+        }
+        return json.append(']').toString();
+    }
+
+    /**
+     * Decode a JSON array of strings
+     *
+     * @throws IllegalArgumentException If the line is not a JSON string array
+     */
+    public static List<String> decodeArguments(String line) {
+        var arguments = new ArrayList<String>();
+        var position = skipWhitespace(line, 0);
+        position = expect(line, position, '[');
+        position = skipWhitespace(line, position);
+        if (position < line.length() && line.charAt(position) == ']') {
+            return arguments;
+        }
+
+        while (true) {
+            position = expect(line, skipWhitespace(line, position), '"');
+            var argument = new StringBuilder();
+            while (true) {
+                if (position >= line.length()) {
+                    throw new IllegalArgumentException("Unterminated string in request");
+                }
+                var c = line.charAt(position++);
+                if (c == '"') {
+                    break;
+                }
+                if (c != '\\') {
+                    argument.append(c);
+                    continue;
+                }
+                if (position >= line.length()) {
+                    throw new IllegalArgumentException("Unterminated escape in request");
+                }
+                var escaped = line.charAt(position++);
+                switch (escaped) {
+                    case '"', '\\', '/' -> argument.append(escaped);
+                    case 'b' -> argument.append('\b');
+                    case 'f' -> argument.append('\f');
+                    case 'n' -> argument.append('\n');
+                    case 'r' -> argument.append('\r');
+                    case 't' -> argument.append('\t');
+                    case 'u' -> {
+                        if (position + 4 > line.length()) {
+                            throw new IllegalArgumentException("Truncated unicode escape in request");
+                        }
+                        try {
+                            argument.append((char) Integer.parseInt(line.substring(position, position + 4), 16));
+                        } catch (NumberFormatException e) {
+                            throw new IllegalArgumentException("Invalid unicode escape in request", e);
+                        }
+                        position += 4;
+                    }
+                    default -> throw new IllegalArgumentException("Invalid escape '\\" + escaped + "' in request");
+                }
+            }
+            arguments.add(argument.toString());
+
+            position = skipWhitespace(line, position);
+            if (position < line.length() && line.charAt(position) == ',') {
+                position++;
+                continue;
+            }
+            position = expect(line, position, ']');
+            if (skipWhitespace(line, position) != line.length()) {
+                throw new IllegalArgumentException("Unexpected content after request array");
+            }
+            return arguments;
+        }
+    }
+
+    private static int skipWhitespace(String line, int position) {
+        while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static int expect(String line, int position, char expected) {
+        if (position >= line.length() || line.charAt(position) != expected) {
+            throw new IllegalArgumentException("Request must be a JSON array of strings");
+        }
+        return position + 1;
+    }
+}
@@ -0,0 +1,267 @@
+package com.modernization.banking.daemon;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Unix domain socket server that runs forwarded CLI commands
+ *
+ * Each connection carries one command in the {@link DaemonProtocol} format
+ * and is served on its own worker thread, so a slow command does not hold up
+ * others. The socket file is readable and writable by its owner only, since
+ * any peer that can connect can move funds with the daemon's credentials.
+ */
+public class DaemonServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(DaemonServer.class);
+
+    /**
+     * Runs one forwarded command
+     */
+    @FunctionalInterface
+    public interface CommandHandler {
+        /**
+         * @param arguments        Command-line arguments sent by the client
+         * @param workingDirectory Client's working directory, or null if it
+         *                         did not send one
+         * @param out              Standard output of the command
+         * @param err              Standard error of the command
+         * @return Exit code reported to the client
+         */
+        int handle(List<String> arguments, Path workingDirectory, PrintWriter out, PrintWriter err)
+                throws Exception;
+    }
+
+    private final Path socket;
+    private final ServerSocketChannel serverChannel;
+    private final CommandHandler handler;
+    private final ExecutorService workers;
+    private final Thread acceptor;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    private DaemonServer(Path socket, ServerSocketChannel serverChannel, CommandHandler handler) {
+        this.socket = socket;
+        this.serverChannel = serverChannel;
+        this.handler = handler;
+
+        var counter = new AtomicInteger();
+        this.workers = Executors.newCachedThreadPool(runnable -> {
+            var thread = new Thread(runnable, "banking-daemon-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.acceptor = new Thread(this::acceptLoop, "banking-daemon-acceptor");
+    }
+
+    /**
+     * Bind the socket and start accepting commands
+     *
+     * A socket file left behind by a daemon that no longer runs is replaced.
+     *
+     * @param socket  Path of the Unix domain socket
+     * @param handler Runs each forwarded command
+     * @throws IOException If a daemon is already listening on the socket or
+     *                     it cannot be bound
+     */
+    public static DaemonServer start(Path socket, CommandHandler handler) throws IOException {
+        if (Files.exists(socket)) {
+            if (DaemonClient.isListening(socket)) {
+                throw new IOException("A daemon is already listening on " + socket);
+            }
+            Files.delete(socket);
+        }
+
+        var serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            serverChannel.bind(UnixDomainSocketAddress.of(socket));
+            try {
+                Files.setPosixFilePermissions(socket, PosixFilePermissions.fromString("rw-------"));
+            } catch (UnsupportedOperationException e) {
+                logger.warn("Cannot restrict permissions of {} on this file system", socket);
+            }
+        } catch (IOException e) {
+            serverChannel.close();
+            throw e;
+        }
+
+        var server = new DaemonServer(socket, serverChannel, handler);
+        server.acceptor.start();
+        logger.info("Daemon listening on {}", socket);
+        return server;
+    }
+
+    /**
+     * Path of the socket being served
+     */
+    public Path socket() {
+        return socket;
+    }
+
+    /**
+     * Wait until the daemon has been closed and in-flight commands have
+     * finished
+     */
+    public void awaitTermination() throws InterruptedException {
+        stopped.await();
+        workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stop accepting commands and remove the socket file; commands already
+     * running are allowed to finish
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            serverChannel.close();
+        } catch (IOException e) {
+            logger.debug("Error closing daemon socket", e);
+        }
+        try {
+            Files.deleteIfExists(socket);
+        } catch (IOException e) {
+            logger.warn("Could not remove socket file {}", socket, e);
+        }
+        workers.shutdown();
+        stopped.countDown();
+        logger.info("Daemon on {} stopped", socket);
+    }
+
+    private void acceptLoop() {
+        while (!closed.get()) {
+            try {
+                var channel = serverChannel.accept();
+                try {
+                    workers.execute(() -> serve(channel));
+                } catch (RejectedExecutionException e) {
+                    // Closed between accepting and dispatching
+                    channel.close();
+                    return;
+                }
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                logger.warn("Failed to accept daemon connection", e);
+            }
+        }
+    }
+
+    private void serve(SocketChannel channel) {
+        try (channel) {
+            var reader = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel),
+                    StandardCharsets.UTF_8));
+            var sink = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel),
+                    StandardCharsets.UTF_8));
+            var out = new PrintWriter(new PrefixedLineWriter(sink, DaemonProtocol.OUT_PREFIX));
+            var err = new PrintWriter(new PrefixedLineWriter(sink, DaemonProtocol.ERR_PREFIX));
+
+            var line = reader.readLine();
+            Path workingDirectory = null;
+            if (line != null && line.startsWith(DaemonProtocol.CWD_PREFIX)) {
+                workingDirectory = Path.of(line.substring(DaemonProtocol.CWD_PREFIX.length()));
+                line = reader.readLine();
+            }
+            if (line == null) {
+                return;
+            }
+
+            int exitCode;
+            try {
+                exitCode = handler.handle(DaemonProtocol.decodeArguments(line), workingDirectory, out, err);
+            } catch (Exception e) {
+                logger.error("Forwarded command failed", e);
+                err.println("Daemon error: " + e.getMessage());
+                exitCode = 2;
+            }
+
+            out.close();
+            err.close();
+            synchronized (sink) {
+                sink.write(DaemonProtocol.EXIT_PREFIX + exitCode + "\n");
+                sink.flush();
+            }
+        } catch (IOException e) {
+            logger.debug("Daemon client disconnected", e);
+        }
+    }
+
+    /**
+     * Frames each complete line written to it with a channel prefix; a
+     * trailing partial line is sent on close
+     */
+    private static final class PrefixedLineWriter extends Writer {
+        private final Writer sink;
+        private final String prefix;
+        private final StringBuilder line = new StringBuilder();
+
+        PrefixedLineWriter(Writer sink, String prefix) {
+            this.sink = sink;
+            this.prefix = prefix;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            for (var i = offset; i < offset + length; i++) {
+                var c = buffer[i];
+                if (c == '\n') {
+                    emit();
+                } else if (c != '\r') {
+                    line.append(c);
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (sink) {
+                sink.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (line.length() > 0) {
+                emit();
+            }
+            flush();
+        }
+
+        private void emit() throws IOException {
+            synchronized (sink) {
+                sink.write(prefix);
+                sink.append(line).write('\n');
+            }
+            line.setLength(0);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.modernization.banking.exception;
 
+import java.util.OptionalInt;
+
 /**
  * Custom exception for banking client operations
  * 
@@ -11,6 +13,7 @@ public class BankingClientException extends Exception {
 
     private final String errorCode;
     private final transient Object details;
+    private final int httpStatus;
 
     public BankingClientException(String message) {
         this(message, "BANKING_ERROR", null, null);
@@ -28,6 +31,20 @@ public class BankingClientException extends Exception {
         super(message, cause);
         this.errorCode = errorCode;
         this.details = details;
+        this.httpStatus = 0;
+    }
+
+    /**
+     * Failure carried by an HTTP response with the given status code
+     */
+    public BankingClientException(String message, String errorCode, int httpStatus) {
+        super(message);
+        if (httpStatus < 100 || httpStatus > 599) {
+            throw new IllegalArgumentException("Invalid HTTP status: " + httpStatus);
+        }
+        this.errorCode = errorCode;
+        this.details = null;
+        this.httpStatus = httpStatus;
     }
 
     public String getErrorCode() {
@@ -38,6 +55,13 @@ public class BankingClientException extends Exception {
         return details;
     }
 
+    /**
+     * HTTP status code of the failed response, when the error came from one
+     */
+    public OptionalInt getHttpStatus() {
+        return httpStatus != 0 ? OptionalInt.of(httpStatus) : OptionalInt.empty();
+    }
+
     @Override
     public String toString() {
         return String.format("BankingClientException[code=%s, message=%s]", errorCode, getMessage());
@@ -0,0 +1,442 @@
+package com.modernization.banking.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.modernization.banking.model.AccountBalance;
+import com.modernization.banking.model.AccountValidationResult;
+import com.modernization.banking.model.Money;
+import com.modernization.banking.model.TransactionRecord;
+import com.modernization.banking.model.TransferResult;
+
+/**
+ * JSON codecs for the core banking API
+ *
+ * The response records read on every call are decoded with hand-written
+ * streaming parsers straight from the response bytes: no intermediate
+ * String, tree or reflective record binding, and only the fields the records
+ * keep are materialized. Unknown fields are skipped, as with
+ * {@code @JsonIgnoreProperties(ignoreUnknown = true)}. Anything else goes
+ * through the shared {@link ObjectMapper}, which is only built when first
+ * needed.
+ */
+public final class BankingJson {
+
+    private BankingJson() {
+    }
+
+    /**
+     * Holder for the streaming factory; the parsers need neither the mapper
+     * nor its modules
+     */
+    private static final class SharedFactory {
+        private static final JsonFactory INSTANCE = new JsonFactory();
+    }
+
+    /**
+     * Holder for the mapper, initialized on first access
+     */
+    private static final class SharedObjectMapper {
+        private static final ObjectMapper INSTANCE = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new Jdk8Module());
+    }
+
+    /**
+     * JSON mapper with Java 8 time and Optional support, built on first use and
+     * shared by all clients; it is thread-safe and its serializer caches stay
+     * warm across short-lived instances
+     */
+    public static ObjectMapper objectMapper() {
+        return SharedObjectMapper.INSTANCE;
+    }
+
+    /**
+     * Streaming parser over a UTF-8 document
+     */
+    public static JsonParser parser(byte[] json) throws IOException {
+        return SharedFactory.INSTANCE.createParser(json);
+    }
+
+    /**
+     * Streaming parser over a UTF-8 stream, which the parser closes
+     */
+    public static JsonParser parser(InputStream json) throws IOException {
+        return SharedFactory.INSTANCE.createParser(json);
+    }
+
+    /**
+     * Decode an account validation response
+     *
+     * @param json UTF-8 response body
+     * @throws IOException If the body is not a JSON object of the expected
+     *                     shape
+     */
+    public static AccountValidationResult readAccountValidationResult(byte[] json) throws IOException {
+        try (var parser = parser(json)) {
+            return readAccountValidationResult(parser);
+        }
+    }
+
+    /**
+     * Decode an account validation from a response body stream
+     */
+    public static AccountValidationResult readAccountValidationResult(InputStream json) throws IOException {
+        try (var parser = parser(json)) {
+            return readAccountValidationResult(parser);
+        }
+    }
+
+    /**
+     * Decode an account validation object, starting before or at its
+     * opening brace
+     */
+    public static AccountValidationResult readAccountValidationResult(JsonParser parser) throws IOException {
+        String accountId = null;
+        var isValid = false;
+        String accountType = null;
+        String status = null;
+
+        startObject(parser);
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (field) {
+                case "accountId" -> accountId = text(parser);
+                case "isValid" -> isValid = bool(parser);
+                case "accountType" -> accountType = text(parser);
+                case "status" -> status = text(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new AccountValidationResult(accountId, isValid, accountType, status);
+    }
+
+    /**
+     * Decode an account balance response
+     *
+     * @param json UTF-8 response body
+     * @throws IOException If the body is not a JSON object of the expected
+     *                     shape
+     */
+    public static AccountBalance readAccountBalance(byte[] json) throws IOException {
+        try (var parser = parser(json)) {
+            return readAccountBalance(parser);
+        }
+    }
+
+    /**
+     * Decode an account balance from a response body stream
+     */
+    public static AccountBalance readAccountBalance(InputStream json) throws IOException {
+        try (var parser = parser(json)) {
+            return readAccountBalance(parser);
+        }
+    }
+
+    /**
+     * Decode an account balance object, starting before or at its opening
+     * brace
+     */
+    public static AccountBalance readAccountBalance(JsonParser parser) throws IOException {
+        String accountId = null;
+        BigDecimal balance = null;
+        String currency = null;
+        Optional<Instant> lastUpdated = Optional.empty();
+
+        startObject(parser);
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (field) {
+                case "accountId" -> accountId = text(parser);
+                case "balance" -> balance = decimal(parser);
+                case "currency" -> currency = text(parser);
+                case "lastUpdated" -> lastUpdated = Optional.ofNullable(instant(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        try {
+            return AccountBalance.fromJson(accountId, balance, currency, lastUpdated);
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            throw new JsonParseException(parser, "Invalid balance: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Decode a transfer response
+     *
+     * @param json UTF-8 response body
+     * @throws IOException If the body is not a JSON object of the expected
+     *                     shape
+     */
+    public static TransferResult readTransferResult(byte[] json) throws IOException {
+        try (var parser = parser(json)) {
+            return readTransferResult(parser);
+        }
+    }
+
+    /**
+     * Decode a transfer result from a response body stream
+     */
+    public static TransferResult readTransferResult(InputStream json) throws IOException {
+        try (var parser = parser(json)) {
+            return readTransferResult(parser);
+        }
+    }
+
+    /**
+     * Decode a transfer result object, starting before or at its opening
+     * brace
+     */
+    public static TransferResult readTransferResult(JsonParser parser) throws IOException {
+        String transactionId = null;
+        String status = null;
+        String message = null;
+        String fromAccount = null;
+        String toAccount = null;
+        Money amount = null;
+        Optional<Instant> timestamp = Optional.empty();
+
+        startObject(parser);
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (field) {
+                case "transactionId" -> transactionId = text(parser);
+                case "status" -> status = text(parser);
+                case "message" -> message = text(parser);
+                case "fromAccount" -> fromAccount = text(parser);
+                case "toAccount" -> toAccount = text(parser);
+                case "amount" -> amount = money(parser);
+                case "timestamp" -> timestamp = Optional.ofNullable(instant(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        return new TransferResult(transactionId, status, message, fromAccount, toAccount, amount, timestamp);
+    }
+
+    /**
+     * Decode the transactions of a /transactions/history response, in the
+     * order the server listed them
+     */
+    public static List<TransactionRecord> readTransactionHistory(InputStream json) throws IOException {
+        try (var parser = parser(json)) {
+            var transactions = new ArrayList<TransactionRecord>();
+            startObject(parser);
+            String field;
+            while ((field = parser.nextFieldName()) != null) {
+                var token = parser.nextToken();
+                if (!field.equals("transactions") || token == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (token != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array for transactions");
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    transactions.add(readTransactionRecord(parser));
+                }
+            }
+            return transactions;
+        }
+    }
+
+    /**
+     * Decode a transaction history entry, starting before or at its opening
+     * brace
+     */
+    public static TransactionRecord readTransactionRecord(JsonParser parser) throws IOException {
+        String transactionId = null;
+        String fromAccount = null;
+        String toAccount = null;
+        Money amount = null;
+        String status = null;
+        LocalDateTime timestamp = null;
+        String username = null;
+
+        startObject(parser);
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (field) {
+                case "transactionId" -> transactionId = text(parser);
+                case "fromAccount" -> fromAccount = text(parser);
+                case "toAccount" -> toAccount = text(parser);
+                case "amount" -> amount = money(parser);
+                case "status" -> status = text(parser);
+                case "timestamp" -> timestamp = localDateTime(parser);
+                case "username" -> username = text(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new TransactionRecord(transactionId, fromAccount, toAccount, amount, status,
+                Optional.ofNullable(timestamp), Optional.ofNullable(username));
+    }
+
+    /**
+     * Streaming generator writing UTF-8 JSON to a writer, which closing the
+     * generator does not close
+     */
+    public static JsonGenerator generator(Writer out) throws IOException {
+        return SharedFactory.INSTANCE.createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Encode a transaction history entry as one JSON object in the API's
+     * field names; absent optional fields are omitted
+     */
+    public static void writeTransactionRecord(JsonGenerator generator, TransactionRecord record)
+            throws IOException {
+        generator.writeStartObject();
+        writeStringField(generator, "transactionId", record.transactionId());
+        writeStringField(generator, "fromAccount", record.fromAccount());
+        writeStringField(generator, "toAccount", record.toAccount());
+        if (record.amount() != null) {
+            generator.writeFieldName("amount");
+            generator.writeNumber(record.amount().toBigDecimal().toPlainString());
+        }
+        writeStringField(generator, "status", record.status());
+        if (record.timestamp().isPresent()) {
+            generator.writeStringField("timestamp", record.timestamp().get().toString());
+        }
+        if (record.username().isPresent()) {
+            generator.writeStringField("username", record.username().get());
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeStringField(JsonGenerator generator, String name, String value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(name, value);
+        }
+    }
+
+    /**
+     * Token from an authentication response, or null if it has none
+     */
+    public static String readAuthToken(InputStream json) throws IOException {
+        try (var parser = parser(json)) {
+            String token = null;
+            startObject(parser);
+            String field;
+            while ((field = parser.nextFieldName()) != null) {
+                parser.nextToken();
+                if (field.equals("token")) {
+                    token = text(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return token;
+        }
+    }
+
+    private static void startObject(JsonParser parser) throws IOException {
+        var token = parser.currentToken() != null ? parser.currentToken() : parser.nextToken();
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a JSON object but found " + token);
+        }
+    }
+
+    private static String text(JsonParser parser) throws IOException {
+        var token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new JsonParseException(parser, "Expected a string for " + parser.currentName());
+        }
+        return parser.getText();
+    }
+
+    private static boolean bool(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_TRUE -> true;
+            case VALUE_FALSE, VALUE_NULL -> false;
+            case VALUE_STRING -> Boolean.parseBoolean(parser.getText().trim());
+            default -> throw new JsonParseException(parser, "Expected a boolean for " + parser.currentName());
+        };
+    }
+
+    private static BigDecimal decimal(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getDecimalValue();
+            case VALUE_NULL -> null;
+            case VALUE_STRING -> {
+                try {
+                    yield new BigDecimal(parser.getText().trim());
+                } catch (NumberFormatException e) {
+                    throw new JsonParseException(parser, "Invalid number for " + parser.currentName(), e);
+                }
+            }
+            default -> throw new JsonParseException(parser, "Expected a number for " + parser.currentName());
+        };
+    }
+
+    private static Money money(JsonParser parser) throws IOException {
+        var amount = decimal(parser);
+        if (amount == null) {
+            return null;
+        }
+        try {
+            return Money.of(amount, Money.DEFAULT_CURRENCY, RoundingMode.HALF_EVEN);
+        } catch (ArithmeticException e) {
+            throw new JsonParseException(parser, "Amount out of range: " + amount, e);
+        }
+    }
+
+    /**
+     * ISO-8601 date-time; an offset or zone, if present, is dropped
+     */
+    private static LocalDateTime localDateTime(JsonParser parser) throws IOException {
+        var value = text(parser);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.trim(), DateTimeFormatter.ISO_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            throw new JsonParseException(parser, "Invalid timestamp for " + parser.currentName(), e);
+        }
+    }
+
+    /**
+     * ISO-8601 text, or epoch seconds with an optional fraction as the
+     * Java time module reads numbers
+     */
+    private static Instant instant(JsonParser parser) throws IOException {
+        var token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isNumeric()) {
+            var seconds = parser.getDecimalValue();
+            return Instant.ofEpochSecond(seconds.longValue(),
+                    seconds.remainder(BigDecimal.ONE).movePointRight(9).intValue());
+        }
+        try {
+            return Instant.parse(text(parser).trim());
+        } catch (DateTimeParseException e) {
+            throw new JsonParseException(parser, "Invalid timestamp for " + parser.currentName(), e);
+        }
+    }
+}
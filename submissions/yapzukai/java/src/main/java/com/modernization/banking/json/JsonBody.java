@@ -0,0 +1,205 @@
+package com.modernization.banking.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Size-bounded HTTP response body kept as the buffers it arrived in
+ *
+ * Unlike {@code BodyHandlers.ofString()} or {@code ofByteArray()} the body is
+ * neither copied into one array nor decoded into a String: parsers read the
+ * received buffers through {@link #inputStream()}. A response whose
+ * Content-Length exceeds the limit is refused before any of it is read, and
+ * one without a declared length is cut off as soon as the limit is passed;
+ * either way the exchange fails with {@link TooLargeException}.
+ */
+public final class JsonBody {
+
+    private final List<ByteBuffer> buffers;
+    private final long size;
+
+    private JsonBody(List<ByteBuffer> buffers, long size) {
+        this.buffers = buffers;
+        this.size = size;
+    }
+
+    /**
+     * Body handler reading at most {@code maxBytes} bytes
+     *
+     * The limit cannot exceed {@link Integer#MAX_VALUE} so that {@link #text()}
+     * can always copy the body into a single array.
+     */
+    public static HttpResponse.BodyHandler<JsonBody> handler(long maxBytes) {
+        if (maxBytes < 1 || maxBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Response size limit must be between 1 and " + Integer.MAX_VALUE
+                    + " bytes: " + maxBytes);
+        }
+        return responseInfo -> new Subscriber(maxBytes,
+                responseInfo.headers().firstValueAsLong("Content-Length").orElse(-1L));
+    }
+
+    /**
+     * Number of bytes received
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Stream over the received bytes; each call starts from the beginning
+     */
+    public InputStream inputStream() {
+        return new BuffersInputStream(buffers);
+    }
+
+    /**
+     * Body decoded as UTF-8, for error messages and logging
+     */
+    public String text() {
+        var bytes = new byte[Math.toIntExact(size)];
+        var offset = 0;
+        for (var buffer : buffers) {
+            var remaining = buffer.remaining();
+            buffer.duplicate().get(bytes, offset, remaining);
+            offset += remaining;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Response body larger than the configured limit
+     */
+    public static final class TooLargeException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        TooLargeException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Collects the body's buffers, cancelling the exchange once the limit is
+     * exceeded
+     */
+    private static final class Subscriber implements HttpResponse.BodySubscriber<JsonBody> {
+        private final long maxBytes;
+        private final long declaredLength;
+        private final CompletableFuture<JsonBody> body = new CompletableFuture<>();
+        // Small bodies arrive in one or two buffers
+        private final List<ByteBuffer> buffers = new ArrayList<>(2);
+        private Flow.Subscription subscription;
+        private long received;
+
+        Subscriber(long maxBytes, long declaredLength) {
+            this.maxBytes = maxBytes;
+            this.declaredLength = declaredLength;
+        }
+
+        @Override
+        public CompletionStage<JsonBody> getBody() {
+            return body;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (declaredLength > maxBytes) {
+                subscription.cancel();
+                body.completeExceptionally(new TooLargeException(
+                        "Response Content-Length " + declaredLength + " exceeds limit of " + maxBytes + " bytes"));
+                return;
+            }
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            if (body.isDone()) {
+                return;
+            }
+            for (var item : items) {
+                received += item.remaining();
+                if (received > maxBytes) {
+                    subscription.cancel();
+                    buffers.clear();
+                    body.completeExceptionally(new TooLargeException(
+                            "Response body exceeds limit of " + maxBytes + " bytes"));
+                    return;
+                }
+                if (item.hasRemaining()) {
+                    // The client does not reuse buffers once published
+                    buffers.add(item);
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            buffers.clear();
+            body.completeExceptionally(error);
+        }
+
+        @Override
+        public void onComplete() {
+            body.complete(new JsonBody(Collections.unmodifiableList(buffers), received));
+        }
+    }
+
+    /**
+     * Reads a list of buffers in order without copying them up front
+     */
+    private static final class BuffersInputStream extends InputStream {
+        private final List<ByteBuffer> buffers;
+        private int index;
+        private ByteBuffer current;
+
+        BuffersInputStream(List<ByteBuffer> buffers) {
+            this.buffers = buffers;
+            this.current = buffers.isEmpty() ? null : buffers.get(0).duplicate();
+        }
+
+        @Override
+        public int read() {
+            if (!advance()) {
+                return -1;
+            }
+            return current.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            var read = 0;
+            while (read < length && advance()) {
+                var count = Math.min(length - read, current.remaining());
+                current.get(target, offset + read, count);
+                read += count;
+            }
+            return read > 0 ? read : -1;
+        }
+
+        @Override
+        public int available() {
+            return current != null ? current.remaining() : 0;
+        }
+
+        private boolean advance() {
+            while (current != null && !current.hasRemaining()) {
+                index++;
+                current = index < buffers.size() ? buffers.get(index).duplicate() : null;
+            }
+            return current != null;
+        }
+    }
+}
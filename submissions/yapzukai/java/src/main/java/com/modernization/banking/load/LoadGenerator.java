@@ -0,0 +1,307 @@
+package com.modernization.banking.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.modernization.banking.client.ModernBankingClient;
+import com.modernization.banking.exception.BankingClientException;
+import com.modernization.banking.metrics.LatencyPercentiles;
+import com.modernization.banking.model.Money;
+import com.modernization.banking.resilience.Futures;
+
+/**
+ * Open-loop load generator
+ *
+ * A single thread issues asynchronous client calls on a fixed schedule,
+ * independent of how quickly earlier calls complete, so a slow server builds
+ * up in-flight requests instead of quietly lowering the offered load. Each
+ * request is timed from its scheduled send time, which corrects for
+ * coordinated omission, and from its actual send time. Latencies are recorded
+ * in HDR histograms in microseconds.
+ */
+public class LoadGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final int FIRST_ACCOUNT_NUMBER = 1000;
+
+    private final ModernBankingClient client;
+    private final LoadProfile profile;
+    private final Money transferAmount;
+    private final Consumer<LoadReport.Interval> intervalListener;
+
+    private final LoadOperation[] operationByTicket;
+    private final Map<LoadOperation, LongAdder> sent = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, LongAdder> errors = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, Histogram> corrected = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, Histogram> uncorrected = new EnumMap<>(LoadOperation.class);
+    private final Map<String, LongAdder> errorsByCode = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong lastCompletionNanos = new AtomicLong();
+
+    private final Recorder intervalLatency = new Recorder(SIGNIFICANT_DIGITS);
+    private final LongAdder intervalCompleted = new LongAdder();
+    private final LongAdder intervalErrors = new LongAdder();
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final Object drainLock = new Object();
+
+    /**
+     * @param client           Client to drive; should not be shared with
+     *                         other work while the run is in progress
+     * @param profile          Load profile
+     * @param intervalListener Receives a progress report every report
+     *                         interval, on a background thread
+     */
+    public LoadGenerator(ModernBankingClient client, LoadProfile profile,
+            Consumer<LoadReport.Interval> intervalListener) {
+        this.client = client;
+        this.profile = profile;
+        this.transferAmount = Money.ofMinor(profile.transferCents(), Money.DEFAULT_CURRENCY);
+        this.intervalListener = intervalListener;
+
+        var weightTotal = profile.mix().values().stream().mapToInt(Integer::intValue).sum();
+        this.operationByTicket = new LoadOperation[weightTotal];
+        var ticket = 0;
+        for (var entry : profile.mix().entrySet()) {
+            for (var i = 0; i < entry.getValue(); i++) {
+                operationByTicket[ticket++] = entry.getKey();
+            }
+        }
+
+        for (var operation : LoadOperation.values()) {
+            sent.put(operation, new LongAdder());
+            errors.put(operation, new LongAdder());
+            corrected.put(operation, new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+            uncorrected.put(operation, new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+        }
+    }
+
+    /**
+     * Run the warmup and measured phases, then wait for in-flight requests
+     *
+     * @return Report covering requests scheduled during the measured phase
+     * @throws InterruptedException If interrupted while generating or draining
+     */
+    public LoadReport run() throws InterruptedException {
+        var random = new SplittableRandom(profile.seed());
+        var nanosBetweenRequests = 1_000_000_000.0 / profile.ratePerSecond();
+        var startNanos = System.nanoTime();
+        var measureStartNanos = startNanos + profile.warmup().toNanos();
+        var endNanos = measureStartNanos + profile.duration().toNanos();
+
+        var reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "banking-load-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        var reportNanos = profile.reportInterval().toNanos();
+        var lastReportNanos = new AtomicLong(startNanos);
+        reporter.scheduleAtFixedRate(() -> reportInterval(startNanos, measureStartNanos, lastReportNanos),
+                reportNanos, reportNanos, TimeUnit.NANOSECONDS);
+
+        logger.info("Generating {} requests/s for {} after {} warmup", profile.ratePerSecond(), profile.duration(),
+                profile.warmup());
+        try {
+            for (long sequence = 0;; sequence++) {
+                var intendedNanos = startNanos + (long) (sequence * nanosBetweenRequests);
+                if (intendedNanos - endNanos >= 0) {
+                    break;
+                }
+                parkUntil(intendedNanos);
+
+                var measured = intendedNanos - measureStartNanos >= 0;
+                if (outstanding.get() >= profile.maxOutstanding()) {
+                    if (measured) {
+                        dropped.increment();
+                    }
+                    continue;
+                }
+                issue(random, intendedNanos, measured);
+            }
+            awaitDrain(profile.drainTimeout());
+        } finally {
+            reporter.shutdownNow();
+        }
+
+        return report(measureStartNanos, endNanos);
+    }
+
+    private void issue(SplittableRandom random, long intendedNanos, boolean measured) {
+        var operation = operationByTicket[random.nextInt(operationByTicket.length)];
+        var account = random.nextInt(profile.accounts());
+
+        outstanding.incrementAndGet();
+        if (measured) {
+            sent.get(operation).increment();
+        }
+
+        var sentNanos = System.nanoTime();
+        CompletableFuture<?> call;
+        try {
+            call = switch (operation) {
+                case VALIDATE -> client.validateAccountAsync(accountId(account), profile.useAuth());
+                case BALANCE -> client.getAccountBalanceAsync(accountId(account), profile.useAuth());
+                case TRANSFER -> {
+                    // Any account other than the source
+                    var destination = (account + 1 + random.nextInt(profile.accounts() - 1)) % profile.accounts();
+                    yield client.transferFundsAsync(ModernBankingClient.TransferRequest.builder()
+                            .fromAccount(accountId(account))
+                            .toAccount(accountId(destination))
+                            .amount(transferAmount)
+                            .description("Load test transfer")
+                            .build(), profile.useAuth());
+                }
+            };
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+        call.whenComplete((result, error) -> complete(operation, intendedNanos, sentNanos, measured, error));
+    }
+
+    private void complete(LoadOperation operation, long intendedNanos, long sentNanos, boolean measured,
+            Throwable error) {
+        var nowNanos = System.nanoTime();
+        var correctedMicros = Math.max(0L, (nowNanos - intendedNanos) / 1_000L);
+
+        intervalLatency.recordValue(correctedMicros);
+        intervalCompleted.increment();
+        if (error != null) {
+            intervalErrors.increment();
+        }
+
+        if (measured) {
+            corrected.get(operation).recordValue(correctedMicros);
+            uncorrected.get(operation).recordValue(Math.max(0L, (nowNanos - sentNanos) / 1_000L));
+            if (error != null) {
+                errors.get(operation).increment();
+                errorsByCode.computeIfAbsent(errorCode(error), code -> new LongAdder()).increment();
+            }
+            lastCompletionNanos.accumulateAndGet(nowNanos, Math::max);
+        }
+
+        if (outstanding.decrementAndGet() == 0) {
+            synchronized (drainLock) {
+                drainLock.notifyAll();
+            }
+        }
+    }
+
+    private void awaitDrain(Duration timeout) throws InterruptedException {
+        var deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (drainLock) {
+            while (outstanding.get() > 0) {
+                var remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    logger.warn("{} requests still in flight after {}", outstanding.get(), timeout);
+                    return;
+                }
+                TimeUnit.NANOSECONDS.timedWait(drainLock, remaining);
+            }
+        }
+    }
+
+    private void reportInterval(long startNanos, long measureStartNanos, AtomicLong lastReportNanos) {
+        try {
+            var nowNanos = System.nanoTime();
+            var intervalStartNanos = lastReportNanos.getAndSet(nowNanos);
+            var intervalNanos = nowNanos - intervalStartNanos;
+            var completed = intervalCompleted.sumThenReset();
+            var latency = intervalLatency.getIntervalHistogram();
+
+            intervalListener.accept(new LoadReport.Interval(
+                    intervalStartNanos - measureStartNanos < 0,
+                    Duration.ofNanos(nowNanos - startNanos),
+                    completed,
+                    intervalErrors.sumThenReset(),
+                    intervalNanos > 0 ? completed * 1e9 / intervalNanos : 0.0,
+                    LatencyPercentiles.fromMicros(latency)));
+        } catch (RuntimeException e) {
+            logger.warn("Interval report failed", e);
+        }
+    }
+
+    private LoadReport report(long measureStartNanos, long endNanos) {
+        var operations = new EnumMap<LoadOperation, LoadReport.OperationStats>(LoadOperation.class);
+        var allCorrected = new Histogram(SIGNIFICANT_DIGITS);
+        var allUncorrected = new Histogram(SIGNIFICANT_DIGITS);
+        long totalSent = 0;
+        long totalErrors = 0;
+
+        for (var operation : profile.mix().keySet()) {
+            var operationCorrected = corrected.get(operation).copy();
+            var operationUncorrected = uncorrected.get(operation).copy();
+            var operationSent = sent.get(operation).sum();
+            var operationErrors = errors.get(operation).sum();
+
+            operations.put(operation, new LoadReport.OperationStats(operationSent, operationErrors,
+                    LatencyPercentiles.fromMicros(operationCorrected),
+                    LatencyPercentiles.fromMicros(operationUncorrected)));
+            allCorrected.add(operationCorrected);
+            allUncorrected.add(operationUncorrected);
+            totalSent += operationSent;
+            totalErrors += operationErrors;
+        }
+
+        var completed = allCorrected.getTotalCount();
+        // Throughput runs until the last measured completion, so a backlog
+        // drained after the schedule ends still lowers it
+        var windowNanos = Math.max(endNanos, lastCompletionNanos.get()) - measureStartNanos;
+        var codes = new TreeMap<String, Long>();
+        errorsByCode.forEach((code, count) -> codes.put(code, count.sum()));
+
+        return new LoadReport(
+                profile.duration(),
+                profile.ratePerSecond(),
+                totalSent,
+                completed,
+                totalErrors,
+                dropped.sum(),
+                totalSent - completed,
+                completed * 1e9 / windowNanos,
+                LatencyPercentiles.fromMicros(allCorrected),
+                LatencyPercentiles.fromMicros(allUncorrected),
+                operations,
+                codes);
+    }
+
+    private static void parkUntil(long deadlineNanos) throws InterruptedException {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException("Load generation interrupted");
+            }
+        }
+    }
+
+    private static String accountId(int account) {
+        return "ACC" + (FIRST_ACCOUNT_NUMBER + account);
+    }
+
+    private static String errorCode(Throwable error) {
+        var cause = Futures.unwrap(error);
+        return cause instanceof BankingClientException bankingException
+                ? bankingException.getErrorCode()
+                : cause.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,37 @@
+package com.modernization.banking.load;
+
+/**
+ * Client call issued by the load generator
+ */
+public enum LoadOperation {
+    VALIDATE("validate"),
+    BALANCE("balance"),
+    TRANSFER("transfer");
+
+    private final String tag;
+
+    LoadOperation(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * Name used in mixes and reports
+     */
+    public String tag() {
+        return tag;
+    }
+
+    /**
+     * Resolve a name used in a mix specification
+     *
+     * @throws IllegalArgumentException If the name is unknown
+     */
+    public static LoadOperation fromTag(String tag) {
+        for (var operation : values()) {
+            if (operation.tag.equalsIgnoreCase(tag.trim())) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + tag + "', expected validate, balance or transfer");
+    }
+}
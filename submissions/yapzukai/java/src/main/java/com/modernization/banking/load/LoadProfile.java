@@ -0,0 +1,173 @@
+package com.modernization.banking.load;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Open-loop load profile
+ *
+ * @param ratePerSecond  Fixed arrival rate; requests are sent on schedule
+ *                       whether or not earlier ones have completed
+ * @param duration       Length of the measured phase
+ * @param warmup         Unmeasured phase before it, at the same rate
+ * @param mix            Relative weight of each operation
+ * @param accounts       Number of accounts to spread calls over, numbered
+ *                       from ACC1000
+ * @param useAuth        Whether calls use JWT authentication
+ * @param transferCents  Amount of each transfer in minor units
+ * @param maxOutstanding Cap on in-flight calls; arrivals above it are dropped
+ *                       and reported instead of queuing without bound
+ * @param reportInterval Interval between progress reports
+ * @param drainTimeout   How long to wait for in-flight calls at the end
+ * @param seed           Seed for operation and account selection
+ */
+public record LoadProfile(
+        double ratePerSecond,
+        Duration duration,
+        Duration warmup,
+        Map<LoadOperation, Integer> mix,
+        int accounts,
+        boolean useAuth,
+        long transferCents,
+        int maxOutstanding,
+        Duration reportInterval,
+        Duration drainTimeout,
+        long seed) {
+
+    public LoadProfile {
+        if (!(ratePerSecond > 0.0)) {
+            throw new IllegalArgumentException("Rate must be positive");
+        }
+        if (duration == null || duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Duration must be positive");
+        }
+        if (warmup == null || warmup.isNegative()) {
+            throw new IllegalArgumentException("Warmup cannot be negative");
+        }
+        if (mix == null || mix.isEmpty() || mix.values().stream().anyMatch(weight -> weight == null || weight < 0)
+                || mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Mix needs non-negative weights with a positive total");
+        }
+        if (accounts < 2) {
+            throw new IllegalArgumentException("At least 2 accounts are needed for transfers");
+        }
+        if (transferCents <= 0) {
+            throw new IllegalArgumentException("Transfer amount must be positive");
+        }
+        if (maxOutstanding < 1) {
+            throw new IllegalArgumentException("Max outstanding must be at least 1");
+        }
+        if (reportInterval == null || reportInterval.isNegative() || reportInterval.isZero()) {
+            throw new IllegalArgumentException("Report interval must be positive");
+        }
+        if (drainTimeout == null || drainTimeout.isNegative()) {
+            throw new IllegalArgumentException("Drain timeout cannot be negative");
+        }
+        mix = Collections.unmodifiableMap(new EnumMap<>(mix));
+    }
+
+    /**
+     * Parse a mix such as {@code validate=60,balance=30,transfer=10}
+     *
+     * @throws IllegalArgumentException If the specification is malformed
+     */
+    public static Map<LoadOperation, Integer> parseMix(String specification) {
+        var mix = new EnumMap<LoadOperation, Integer>(LoadOperation.class);
+        for (var entry : specification.split(",")) {
+            var separator = entry.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Mix entry '" + entry + "' must be operation=weight");
+            }
+            try {
+                mix.put(LoadOperation.fromTag(entry.substring(0, separator)),
+                        Integer.parseInt(entry.substring(separator + 1).trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Mix weight in '" + entry + "' is not a number", e);
+            }
+        }
+        return mix;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for load profiles
+     */
+    public static class Builder {
+        private double ratePerSecond = 100.0;
+        private Duration duration = Duration.ofSeconds(30);
+        private Duration warmup = Duration.ofSeconds(5);
+        private Map<LoadOperation, Integer> mix = parseMix("validate=60,balance=30,transfer=10");
+        private int accounts = 50;
+        private boolean useAuth = true;
+        private long transferCents = 1L;
+        private int maxOutstanding = 10_000;
+        private Duration reportInterval = Duration.ofSeconds(5);
+        private Duration drainTimeout = Duration.ofSeconds(30);
+        private long seed = 42L;
+
+        public Builder ratePerSecond(double ratePerSecond) {
+            this.ratePerSecond = ratePerSecond;
+            return this;
+        }
+
+        public Builder duration(Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        public Builder warmup(Duration warmup) {
+            this.warmup = warmup;
+            return this;
+        }
+
+        public Builder mix(Map<LoadOperation, Integer> mix) {
+            this.mix = mix;
+            return this;
+        }
+
+        public Builder accounts(int accounts) {
+            this.accounts = accounts;
+            return this;
+        }
+
+        public Builder useAuth(boolean useAuth) {
+            this.useAuth = useAuth;
+            return this;
+        }
+
+        public Builder transferCents(long transferCents) {
+            this.transferCents = transferCents;
+            return this;
+        }
+
+        public Builder maxOutstanding(int maxOutstanding) {
+            this.maxOutstanding = maxOutstanding;
+            return this;
+        }
+
+        public Builder reportInterval(Duration reportInterval) {
+            this.reportInterval = reportInterval;
+            return this;
+        }
+
+        public Builder drainTimeout(Duration drainTimeout) {
+            this.drainTimeout = drainTimeout;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public LoadProfile build() {
+            return new LoadProfile(ratePerSecond, duration, warmup, mix, accounts, useAuth, transferCents,
+                    maxOutstanding, reportInterval, drainTimeout, seed);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.modernization.banking.load;
+
+import java.time.Duration;
+import java.util.Map;
+
+import com.modernization.banking.metrics.LatencyPercentiles;
+
+/**
+ * Outcome of the measured phase of a load run
+ *
+ * Corrected latencies are measured from the time each request was scheduled
+ * to be sent, so a stalled client or server is charged for the requests it
+ * held back. Uncorrected latencies are measured from the time the request was
+ * actually issued and are reported alongside for comparison.
+ *
+ * @param duration     Length of the measured phase
+ * @param offeredRate  Requests per second the profile asked for
+ * @param sent         Requests issued during the measured phase
+ * @param completed    Issued requests that completed, successfully or
+ *                     not
+ * @param errors       Completed requests that failed
+ * @param dropped      Arrivals not issued because too many requests
+ *                     were already in flight
+ * @param unfinished   Issued requests still in flight after draining
+ * @param throughput   Completed requests per second
+ * @param corrected    Corrected latency across all operations
+ * @param uncorrected  Uncorrected latency across all operations
+ * @param operations   Breakdown per operation
+ * @param errorsByCode Failed requests per client error code
+ */
+public record LoadReport(
+        Duration duration,
+        double offeredRate,
+        long sent,
+        long completed,
+        long errors,
+        long dropped,
+        long unfinished,
+        double throughput,
+        LatencyPercentiles corrected,
+        LatencyPercentiles uncorrected,
+        Map<LoadOperation, OperationStats> operations,
+        Map<String, Long> errorsByCode) {
+
+    /**
+     * Outcome of one operation during the measured phase
+     *
+     * @param sent        Requests issued
+     * @param errors      Completed requests that failed
+     * @param corrected   Latency from scheduled send time
+     * @param uncorrected Latency from actual send time
+     */
+    public record OperationStats(
+            long sent,
+            long errors,
+            LatencyPercentiles corrected,
+            LatencyPercentiles uncorrected) {
+    }
+
+    /**
+     * Progress over one report interval
+     *
+     * @param warmup     Whether the interval began during warmup
+     * @param elapsed    Time since the run started
+     * @param completed  Requests completed in the interval
+     * @param errors     Failed requests in the interval
+     * @param throughput Completed requests per second in the interval
+     * @param corrected  Corrected latency of requests completed in the
+     *                   interval
+     */
+    public record Interval(
+            boolean warmup,
+            Duration elapsed,
+            long completed,
+            long errors,
+            double throughput,
+            LatencyPercentiles corrected) {
+    }
+}
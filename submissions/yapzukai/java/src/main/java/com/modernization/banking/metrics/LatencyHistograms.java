@@ -0,0 +1,138 @@
+package com.modernization.banking.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import com.modernization.banking.resilience.Endpoint;
+
+/**
+ * HDR latency histograms per endpoint and response status class
+ *
+ * Request threads record into {@link Recorder}s, which are wait-free and do
+ * not allocate on the recording path. Snapshots swap out the recorders'
+ * interval histograms and fold them into cumulative totals, so reading
+ * percentiles never blocks recording. Values are kept in microseconds with
+ * three significant digits.
+ */
+public class LatencyHistograms {
+
+    private static final String[] STATUS_CLASSES = { "1xx", "2xx", "3xx", "4xx", "5xx", "error" };
+    private static final int ERROR_CLASS = STATUS_CLASSES.length - 1;
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<Endpoint, AtomicReferenceArray<Recorder>> recorders = new EnumMap<>(Endpoint.class);
+
+    // Only touched under the snapshot lock
+    private final Map<Endpoint, Histogram[]> totals = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, Histogram[]> intervals = new EnumMap<>(Endpoint.class);
+
+    public LatencyHistograms() {
+        for (var endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new AtomicReferenceArray<>(STATUS_CLASSES.length));
+            totals.put(endpoint, new Histogram[STATUS_CLASSES.length]);
+            intervals.put(endpoint, new Histogram[STATUS_CLASSES.length]);
+        }
+    }
+
+    /**
+     * Record the latency of a request that received an HTTP response
+     *
+     * @param endpoint     Endpoint called
+     * @param statusCode   HTTP status code of the response
+     * @param elapsedNanos Request latency in nanoseconds
+     */
+    public void record(Endpoint endpoint, int statusCode, long elapsedNanos) {
+        var statusClass = statusCode >= 100 && statusCode < 600 ? statusCode / 100 - 1 : ERROR_CLASS;
+        recorder(endpoint, statusClass).recordValue(Math.max(0L, elapsedNanos / 1_000L));
+    }
+
+    /**
+     * Record the latency of a request that failed without a response
+     *
+     * @param endpoint     Endpoint called
+     * @param elapsedNanos Time until the failure in nanoseconds
+     */
+    public void recordError(Endpoint endpoint, long elapsedNanos) {
+        recorder(endpoint, ERROR_CLASS).recordValue(Math.max(0L, elapsedNanos / 1_000L));
+    }
+
+    /**
+     * Cumulative percentiles since the client was created
+     *
+     * @return Percentiles per endpoint and per endpoint and status class;
+     *         endpoints and status classes without requests are omitted
+     */
+    public synchronized Snapshot snapshot() {
+        var byEndpoint = new LinkedHashMap<String, LatencyPercentiles>();
+        var byStatusClass = new LinkedHashMap<String, Map<String, LatencyPercentiles>>();
+
+        for (var endpoint : Endpoint.values()) {
+            var endpointRecorders = recorders.get(endpoint);
+            var endpointTotals = totals.get(endpoint);
+            var endpointIntervals = intervals.get(endpoint);
+            Histogram combined = null;
+            var classes = new LinkedHashMap<String, LatencyPercentiles>();
+
+            for (var statusClass = 0; statusClass < STATUS_CLASSES.length; statusClass++) {
+                var recorder = endpointRecorders.get(statusClass);
+                if (recorder == null) {
+                    continue;
+                }
+
+                var interval = recorder.getIntervalHistogram(endpointIntervals[statusClass]);
+                endpointIntervals[statusClass] = interval;
+                if (endpointTotals[statusClass] == null) {
+                    endpointTotals[statusClass] = new Histogram(SIGNIFICANT_DIGITS);
+                    endpointTotals[statusClass].setAutoResize(true);
+                }
+                var total = endpointTotals[statusClass];
+                total.add(interval);
+                if (total.getTotalCount() == 0) {
+                    continue;
+                }
+
+                classes.put(STATUS_CLASSES[statusClass], LatencyPercentiles.fromMicros(total));
+                if (combined == null) {
+                    combined = new Histogram(SIGNIFICANT_DIGITS);
+                    combined.setAutoResize(true);
+                }
+                combined.add(total);
+            }
+
+            if (combined != null) {
+                byEndpoint.put(endpoint.tag(), LatencyPercentiles.fromMicros(combined));
+                byStatusClass.put(endpoint.tag(), Collections.unmodifiableMap(classes));
+            }
+        }
+        return new Snapshot(byEndpoint, byStatusClass);
+    }
+
+    private Recorder recorder(Endpoint endpoint, int statusClass) {
+        var endpointRecorders = recorders.get(endpoint);
+        var recorder = endpointRecorders.get(statusClass);
+        if (recorder == null) {
+            endpointRecorders.compareAndSet(statusClass, null, new Recorder(SIGNIFICANT_DIGITS));
+            recorder = endpointRecorders.get(statusClass);
+        }
+        return recorder;
+    }
+
+    /**
+     * Point-in-time latency percentiles
+     *
+     * @param byEndpoint    Percentiles per endpoint tag across all statuses
+     * @param byStatusClass Percentiles per endpoint tag and status class
+     *                      ({@code 2xx}, {@code 4xx}, {@code 5xx},
+     *                      {@code error}, ...)
+     */
+    public record Snapshot(
+            Map<String, LatencyPercentiles> byEndpoint,
+            Map<String, Map<String, LatencyPercentiles>> byStatusClass) {
+    }
+}
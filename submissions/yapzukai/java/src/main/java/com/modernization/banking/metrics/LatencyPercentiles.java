@@ -0,0 +1,52 @@
+package com.modernization.banking.metrics;
+
+import org.HdrHistogram.AbstractHistogram;
+
+/**
+ * Latency distribution summary
+ *
+ * @param count  Number of recorded requests
+ * @param p50Ms  Median latency in milliseconds
+ * @param p90Ms  90th percentile latency in milliseconds
+ * @param p99Ms  99th percentile latency in milliseconds
+ * @param p999Ms 99.9th percentile latency in milliseconds
+ * @param maxMs  Maximum latency in milliseconds
+ * @param meanMs Mean latency in milliseconds, accurate to the histogram's
+ *               three significant digits
+ */
+public record LatencyPercentiles(
+        long count,
+        double p50Ms,
+        double p90Ms,
+        double p99Ms,
+        double p999Ms,
+        double maxMs,
+        double meanMs) {
+    public LatencyPercentiles {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+    }
+
+    /**
+     * Summarize a histogram of values recorded in microseconds
+     */
+    public static LatencyPercentiles fromMicros(AbstractHistogram histogram) {
+        return new LatencyPercentiles(
+                histogram.getTotalCount(),
+                histogram.getValueAtPercentile(50.0) / 1_000.0,
+                histogram.getValueAtPercentile(90.0) / 1_000.0,
+                histogram.getValueAtPercentile(99.0) / 1_000.0,
+                histogram.getValueAtPercentile(99.9) / 1_000.0,
+                histogram.getMaxValue() / 1_000.0,
+                histogram.getMean() / 1_000.0);
+    }
+
+    /**
+     * Total latency of all recorded requests in milliseconds, derived from
+     * the mean
+     */
+    public double sumMs() {
+        return meanMs * count;
+    }
+}
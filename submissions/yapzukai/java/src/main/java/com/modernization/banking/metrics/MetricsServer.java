@@ -0,0 +1,113 @@
+package com.modernization.banking.metrics;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Embedded Prometheus scrape endpoint
+ *
+ * Serves {@code GET /metrics} from the JDK's built-in HTTP server on a
+ * single daemon thread, so exposing client metrics does not keep the JVM
+ * alive. It listens on the loopback interface unless a host is given.
+ */
+public class MetricsServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsServer.class);
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private MetricsServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * Start serving metrics
+     *
+     * @param host    Address to bind, or null for the loopback interface
+     * @param port    Port to listen on (0 picks a free port)
+     * @param scraper Renders the current metrics in Prometheus text format
+     * @return Running server
+     * @throws IOException If the port cannot be bound
+     */
+    public static MetricsServer start(String host, int port, Supplier<String> scraper) throws IOException {
+        var address = host != null ? new InetSocketAddress(host, port)
+                : new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+        if (address.isUnresolved()) {
+            throw new IOException("Cannot resolve metrics host " + host);
+        }
+        var server = HttpServer.create(address, 0);
+        var executor = Executors.newSingleThreadExecutor(runnable -> {
+            var thread = new Thread(runnable, "banking-metrics-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        server.createContext("/metrics", exchange -> handle(exchange, scraper));
+        server.setExecutor(executor);
+        server.start();
+
+        logger.info("Serving Prometheus metrics on http://{}:{}/metrics",
+                server.getAddress().getHostString(), server.getAddress().getPort());
+        return new MetricsServer(server, executor);
+    }
+
+    /**
+     * Address the server is listening on
+     */
+    public InetSocketAddress address() {
+        return server.getAddress();
+    }
+
+    /**
+     * Port the server is listening on
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private static void handle(HttpExchange exchange, Supplier<String> scraper) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod()) && !"HEAD".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            final byte[] body;
+            try {
+                body = scraper.get().getBytes(StandardCharsets.UTF_8);
+            } catch (RuntimeException e) {
+                logger.error("Failed to render metrics", e);
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", PrometheusTextFormat.CONTENT_TYPE);
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package com.modernization.banking.metrics;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
 /**
  * Performance metrics record
  * 
@@ -10,7 +15,18 @@ public record PerformanceMetrics(
         long successfulRequests,
         long failedRequests,
         double successRate,
-        double averageResponseTime) {
+        double averageResponseTime,
+        long cacheHits,
+        long cacheMisses,
+        long cacheEvictions,
+        long coalescedRequests,
+        long retryAttempts,
+        long hedgesIssued,
+        long hedgesWon,
+        Map<String, String> circuitBreakerStates,
+        Map<String, Integer> concurrencyLimits,
+        Map<String, LatencyPercentiles> endpointLatencies,
+        Map<String, Map<String, LatencyPercentiles>> statusClassLatencies) {
     public PerformanceMetrics {
         if (totalRequests < 0 || successfulRequests < 0 || failedRequests < 0) {
             throw new IllegalArgumentException("Request counts cannot be negative");
@@ -21,5 +37,49 @@ public record PerformanceMetrics(
         if (averageResponseTime < 0.0) {
             throw new IllegalArgumentException("Average response time cannot be negative");
         }
+        if (cacheHits < 0 || cacheMisses < 0 || cacheEvictions < 0 || coalescedRequests < 0
+                || retryAttempts < 0 || hedgesIssued < 0 || hedgesWon < 0) {
+            throw new IllegalArgumentException("Cache, retry and hedge counts cannot be negative");
+        }
+        circuitBreakerStates = Collections.unmodifiableMap(new LinkedHashMap<>(circuitBreakerStates));
+        concurrencyLimits = Collections.unmodifiableMap(new LinkedHashMap<>(concurrencyLimits));
+        endpointLatencies = Collections.unmodifiableMap(new LinkedHashMap<>(endpointLatencies));
+        statusClassLatencies = Collections.unmodifiableMap(new LinkedHashMap<>(statusClassLatencies));
+    }
+
+    public PerformanceMetrics(long totalRequests, long successfulRequests, long failedRequests,
+            double successRate, double averageResponseTime) {
+        this(totalRequests, successfulRequests, failedRequests, successRate, averageResponseTime, 0L, 0L, 0L, 0L, 0L,
+                0L, 0L, Map.of(), Map.of(), Map.of(), Map.of());
+    }
+
+    /**
+     * Fraction of validation cache lookups served from the cache
+     */
+    public double cacheHitRate() {
+        var lookups = cacheHits + cacheMisses;
+        return lookups > 0 ? (double) cacheHits / lookups : 0.0;
+    }
+
+    /**
+     * Latency percentiles of an endpoint across all response statuses
+     *
+     * @param endpoint Endpoint tag (validate, balance, transfer, authToken)
+     * @return Percentiles, or empty if the endpoint has not been called
+     */
+    public Optional<LatencyPercentiles> endpointLatency(String endpoint) {
+        return Optional.ofNullable(endpointLatencies.get(endpoint));
+    }
+
+    /**
+     * Latency percentiles of an endpoint for one response status class
+     *
+     * @param endpoint    Endpoint tag (validate, balance, transfer, authToken)
+     * @param statusClass Status class ({@code 2xx}, {@code 4xx}, {@code 5xx}
+     *                    or {@code error} for requests without a response)
+     * @return Percentiles, or empty if no such request was recorded
+     */
+    public Optional<LatencyPercentiles> endpointLatency(String endpoint, String statusClass) {
+        return Optional.ofNullable(statusClassLatencies.get(endpoint)).map(classes -> classes.get(statusClass));
     }
-}
\ No newline at end of file
+}
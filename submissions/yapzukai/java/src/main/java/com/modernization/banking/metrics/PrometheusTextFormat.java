@@ -0,0 +1,97 @@
+package com.modernization.banking.metrics;
+
+import java.util.Map;
+
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
+
+/**
+ * Prometheus text exposition format (version 0.0.4) for the client
+ *
+ * Micrometer meters are rendered by {@link PrometheusMeterRegistry}; the HDR
+ * latency percentiles, which are not Micrometer meters, are appended as the
+ * {@code banking_request_latency_seconds} summary and its {@code _max}
+ * gauge, labelled by endpoint and status class.
+ */
+public final class PrometheusTextFormat {
+
+    /**
+     * Content type of the exposition format
+     */
+    public static final String CONTENT_TYPE = TextFormat.CONTENT_TYPE_004;
+
+    private static final String LATENCY_METRIC = "banking_request_latency_seconds";
+
+    private PrometheusTextFormat() {
+    }
+
+    /**
+     * Render all meters and latency percentiles
+     *
+     * @param registry  Registry to render
+     * @param latencies HDR latency snapshot
+     * @return Exposition text
+     */
+    public static String format(PrometheusMeterRegistry registry, LatencyHistograms.Snapshot latencies) {
+        var out = new StringBuilder(registry.scrape());
+        writeLatencies(out, latencies);
+        return out.toString();
+    }
+
+    private static void writeLatencies(StringBuilder out, LatencyHistograms.Snapshot latencies) {
+        if (latencies.byStatusClass().isEmpty()) {
+            return;
+        }
+
+        // One TYPE line per family, followed by all of its samples
+        out.append("# HELP ").append(LATENCY_METRIC)
+                .append(" Request latency per endpoint and status class (HDR histogram)\n")
+                .append("# TYPE ").append(LATENCY_METRIC).append(" summary\n");
+        forEachSeries(latencies, (labels, percentiles) -> {
+            writeSample(out, LATENCY_METRIC, labels, "0.5", seconds(percentiles.p50Ms()));
+            writeSample(out, LATENCY_METRIC, labels, "0.9", seconds(percentiles.p90Ms()));
+            writeSample(out, LATENCY_METRIC, labels, "0.99", seconds(percentiles.p99Ms()));
+            writeSample(out, LATENCY_METRIC, labels, "0.999", seconds(percentiles.p999Ms()));
+            writeSample(out, LATENCY_METRIC + "_count", labels, null, percentiles.count());
+            writeSample(out, LATENCY_METRIC + "_sum", labels, null, seconds(percentiles.sumMs()));
+        });
+
+        out.append("# HELP ").append(LATENCY_METRIC)
+                .append("_max Maximum request latency per endpoint and status class\n")
+                .append("# TYPE ").append(LATENCY_METRIC).append("_max gauge\n");
+        forEachSeries(latencies, (labels, percentiles) -> writeSample(out, LATENCY_METRIC + "_max", labels, null,
+                seconds(percentiles.maxMs())));
+    }
+
+    private static void forEachSeries(LatencyHistograms.Snapshot latencies, SeriesWriter writer) {
+        for (Map.Entry<String, Map<String, LatencyPercentiles>> endpoint : latencies.byStatusClass().entrySet()) {
+            for (var statusClass : endpoint.getValue().entrySet()) {
+                var labels = "endpoint=\"" + escape(endpoint.getKey()) + "\",status=\"" + escape(statusClass.getKey())
+                        + "\"";
+                writer.write(labels, statusClass.getValue());
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface SeriesWriter {
+        void write(String labels, LatencyPercentiles percentiles);
+    }
+
+    private static void writeSample(StringBuilder out, String metric, String labels, String quantile, double value) {
+        out.append(metric).append('{').append(labels);
+        if (quantile != null) {
+            out.append(",quantile=\"").append(quantile).append('"');
+        }
+        out.append("} ").append(Double.toString(value)).append('\n');
+    }
+
+    // HDR values are whole microseconds; dividing those avoids float noise in the output
+    private static double seconds(double millis) {
+        return Math.round(millis * 1_000.0) / 1_000_000.0;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
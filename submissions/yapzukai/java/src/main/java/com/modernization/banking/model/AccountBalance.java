@@ -1,8 +1,12 @@
 package com.modernization.banking.model;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.Instant;
+import java.util.Currency;
 import java.util.Optional;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -14,10 +18,33 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public record AccountBalance(
         @JsonProperty("accountId") String accountId,
-        @JsonProperty("balance") Double amount,
-        @JsonProperty("currency") String currency,
+        @JsonProperty("balance") Money amount,
         @JsonProperty("lastUpdated") Optional<Instant> lastUpdated) {
-    public AccountBalance(String accountId, Double amount, String currency) {
-        this(accountId, amount, currency, Optional.empty());
+    public AccountBalance(String accountId, Money amount) {
+        this(accountId, amount, Optional.empty());
     }
-}
\ No newline at end of file
+
+    /**
+     * Balance as sent by the API, in the reported currency or
+     * {@link Money#DEFAULT_CURRENCY} if none is given
+     */
+    @JsonCreator
+    public static AccountBalance fromJson(
+            @JsonProperty("accountId") String accountId,
+            @JsonProperty("balance") BigDecimal balance,
+            @JsonProperty("currency") String currency,
+            @JsonProperty("lastUpdated") Optional<Instant> lastUpdated) {
+        var unit = currency != null ? Currency.getInstance(currency) : Money.DEFAULT_CURRENCY;
+        return new AccountBalance(accountId,
+                balance != null ? Money.of(balance, unit, RoundingMode.HALF_EVEN) : null,
+                lastUpdated != null ? lastUpdated : Optional.empty());
+    }
+
+    /**
+     * ISO 4217 code of the balance's currency
+     */
+    @JsonProperty("currency")
+    public String currency() {
+        return amount != null ? amount.currency().getCurrencyCode() : null;
+    }
+}
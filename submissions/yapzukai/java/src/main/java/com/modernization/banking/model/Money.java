@@ -0,0 +1,195 @@
+package com.modernization.banking.model;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Monetary amount record
+ *
+ * Immutable amount held as a whole number of the currency's minor units
+ * (cents for USD), so amounts are exact and sums are plain long additions.
+ * In JSON an amount is a bare decimal number in {@link #DEFAULT_CURRENCY},
+ * which is how the core banking API exchanges amounts.
+ */
+@JsonSerialize(using = Money.Serializer.class)
+@JsonDeserialize(using = Money.Deserializer.class)
+public record Money(long minorUnits, Currency currency) implements Comparable<Money> {
+
+    /**
+     * Currency of amounts the core banking API sends without one
+     */
+    public static final Currency DEFAULT_CURRENCY = Currency.getInstance("USD");
+
+    public Money {
+        if (currency == null) {
+            throw new IllegalArgumentException("Currency cannot be null");
+        }
+        if (currency.getDefaultFractionDigits() < 0) {
+            throw new IllegalArgumentException("Currency " + currency + " has no minor unit");
+        }
+    }
+
+    /**
+     * Amount of whole minor units, e.g. {@code ofMinor(15025, USD)} for 150.25
+     */
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        return new Money(minorUnits, currency);
+    }
+
+    /**
+     * Exact amount
+     *
+     * @throws IllegalArgumentException If the amount has more decimal places
+     *                                  than the currency's minor unit
+     */
+    public static Money of(BigDecimal amount, Currency currency) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Amount cannot be null");
+        }
+        try {
+            return of(amount, currency, RoundingMode.UNNECESSARY);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(String.format("Amount %s has more than %d decimal places for %s",
+                    amount.toPlainString(), currency.getDefaultFractionDigits(), currency), e);
+        }
+    }
+
+    /**
+     * Amount rounded to the currency's minor unit
+     *
+     * @throws ArithmeticException If the amount does not fit in a long number
+     *                             of minor units
+     */
+    public static Money of(BigDecimal amount, Currency currency, RoundingMode rounding) {
+        if (currency == null) {
+            throw new IllegalArgumentException("Currency cannot be null");
+        }
+        var minorUnits = amount.setScale(currency.getDefaultFractionDigits(), rounding).unscaledValue();
+        return new Money(minorUnits.longValueExact(), currency);
+    }
+
+    /**
+     * Exact amount from its decimal string form, e.g. {@code "150.25"}
+     *
+     * @throws IllegalArgumentException If the text is not a number or is
+     *                                  more precise than the minor unit
+     */
+    public static Money parse(String amount, Currency currency) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Invalid amount: " + amount);
+        }
+        try {
+            return of(new BigDecimal(amount.trim()), currency);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid amount: " + amount, e);
+        }
+    }
+
+    /**
+     * Zero in the given currency
+     */
+    public static Money zero(Currency currency) {
+        return new Money(0L, currency);
+    }
+
+    /**
+     * Sum of this and another amount in the same currency
+     *
+     * @throws ArithmeticException If the sum overflows
+     */
+    public Money plus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    /**
+     * Difference of this and another amount in the same currency
+     *
+     * @throws ArithmeticException If the difference overflows
+     */
+    public Money minus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    /**
+     * Amount in major units with the currency's scale, e.g. {@code 150.25}
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, currency.getDefaultFractionDigits());
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        requireSameCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString() + " " + currency.getCurrencyCode();
+    }
+
+    private void requireSameCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " and " + other.currency);
+        }
+    }
+
+    /**
+     * Writes an amount as an exact JSON number
+     */
+    static final class Serializer extends StdSerializer<Money> {
+        private static final long serialVersionUID = 1L;
+
+        Serializer() {
+            super(Money.class);
+        }
+
+        @Override
+        public void serialize(Money value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeNumber(value.toBigDecimal().toPlainString());
+        }
+    }
+
+    /**
+     * Reads a JSON number without a binary floating-point step, rounding
+     * half-even to the minor unit
+     */
+    static final class Deserializer extends StdDeserializer<Money> {
+        private static final long serialVersionUID = 1L;
+
+        Deserializer() {
+            super(Money.class);
+        }
+
+        @Override
+        public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            var amount = context.readValue(parser, BigDecimal.class);
+            try {
+                return of(amount, DEFAULT_CURRENCY, RoundingMode.HALF_EVEN);
+            } catch (ArithmeticException e) {
+                return (Money) context.handleWeirdNumberValue(Money.class, amount, "amount out of range");
+            }
+        }
+    }
+}
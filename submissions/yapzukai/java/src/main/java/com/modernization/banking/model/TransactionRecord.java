@@ -0,0 +1,24 @@
+package com.modernization.banking.model;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Transaction history entry record
+ * 
+ * Immutable data structure representing one transfer as listed by
+ * /transactions/history; the API reports timestamps in server-local time
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record TransactionRecord(
+        @JsonProperty("transactionId") String transactionId,
+        @JsonProperty("fromAccount") String fromAccount,
+        @JsonProperty("toAccount") String toAccount,
+        @JsonProperty("amount") Money amount,
+        @JsonProperty("status") String status,
+        @JsonProperty("timestamp") Optional<LocalDateTime> timestamp,
+        @JsonProperty("username") Optional<String> username) {
+}
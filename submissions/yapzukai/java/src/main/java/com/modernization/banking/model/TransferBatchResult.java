@@ -0,0 +1,81 @@
+package com.modernization.banking.model;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.modernization.banking.exception.BankingClientException;
+
+/**
+ * Batch transfer result record
+ * 
+ * Immutable data structure holding one outcome per submitted transfer, in
+ * submission order, together with batch-level throughput figures
+ */
+public record TransferBatchResult(
+        List<Item> items,
+        long durationMs,
+        int uniqueAccountsValidated) {
+    public TransferBatchResult {
+        items = List.copyOf(items);
+    }
+
+    /**
+     * Number of transfers that completed successfully
+     */
+    public long successfulTransfers() {
+        return items.stream().filter(Item::isSuccess).count();
+    }
+
+    /**
+     * Number of transfers that failed validation or execution
+     */
+    public long failedTransfers() {
+        return items.size() - successfulTransfers();
+    }
+
+    /**
+     * Sum of the amounts moved by successful transfers, or empty if none
+     * succeeded
+     *
+     * @throws IllegalArgumentException If the transfers are in different
+     *                                  currencies
+     */
+    public Optional<Money> totalTransferred() {
+        Money total = null;
+        for (var item : items) {
+            if (item.result().isPresent() && item.result().get().amount() != null) {
+                var amount = item.result().get().amount();
+                total = total == null ? amount : total.plus(amount);
+            }
+        }
+        return Optional.ofNullable(total);
+    }
+
+    /**
+     * Transfers processed per second over the whole batch
+     */
+    public double throughputPerSecond() {
+        return durationMs > 0 ? items.size() * 1000.0 / durationMs : 0.0;
+    }
+
+    /**
+     * Outcome of a single transfer in the batch
+     */
+    public record Item(
+            int index,
+            Optional<TransferResult> result,
+            Optional<BankingClientException> error) {
+
+        public static Item success(int index, TransferResult result) {
+            return new Item(index, Optional.of(result), Optional.empty());
+        }
+
+        public static Item failure(int index, BankingClientException error) {
+            return new Item(index, Optional.empty(), Optional.of(error));
+        }
+
+        public boolean isSuccess() {
+            return result.isPresent();
+        }
+    }
+}
@@ -18,10 +18,10 @@ public record TransferResult(
         @JsonProperty("message") String message,
         @JsonProperty("fromAccount") String fromAccount,
         @JsonProperty("toAccount") String toAccount,
-        @JsonProperty("amount") Double amount,
+        @JsonProperty("amount") Money amount,
         @JsonProperty("timestamp") Optional<Instant> timestamp) {
     public TransferResult(String transactionId, String status, String message,
-            String fromAccount, String toAccount, Double amount) {
+            String fromAccount, String toAccount, Money amount) {
         this(transactionId, status, message, fromAccount, toAccount, amount, Optional.of(Instant.now()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,233 @@
+package com.modernization.banking.resilience;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.modernization.banking.config.BankingClientConfiguration;
+import com.modernization.banking.exception.BankingClientException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Circuit breaker for a single endpoint
+ *
+ * Outcomes of the last {@value #WINDOW_SIZE} calls are kept in a sliding
+ * window. Once at least {@value #MINIMUM_CALLS} calls are recorded and either
+ * the failure rate or the slow-call rate reaches the configured threshold the
+ * circuit opens and calls fail fast with {@code CIRCUIT_OPEN}. After the open
+ * duration a few probe calls are let through; the circuit closes when they
+ * all succeed and opens again on the first failed or slow probe.
+ */
+public class CircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    private static final int WINDOW_SIZE = 50;
+    private static final int MINIMUM_CALLS = 10;
+    private static final int HALF_OPEN_PROBES = 3;
+
+    /**
+     * Circuit breaker states
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final Endpoint endpoint;
+    private final double rateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final Counter rejectedCounter;
+
+    // Sliding window of call outcomes
+    private final boolean[] failures = new boolean[WINDOW_SIZE];
+    private final boolean[] slowCalls = new boolean[WINDOW_SIZE];
+    private int recordedCalls;
+    private int nextSlot;
+    private int failureCount;
+    private int slowCallCount;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    CircuitBreaker(Endpoint endpoint, BankingClientConfiguration configuration, MeterRegistry meterRegistry) {
+        this.endpoint = endpoint;
+        this.rateThreshold = configuration.circuitBreakerFailureRatePercent() / 100.0;
+        this.slowCallNanos = configuration.circuitBreakerSlowCallMs() * 1_000_000L;
+        this.openNanos = configuration.circuitBreakerOpenMs() * 1_000_000L;
+
+        this.rejectedCounter = Counter.builder("banking.circuit.rejected")
+                .description("Calls rejected because the circuit breaker was open")
+                .tag("endpoint", endpoint.tag())
+                .register(meterRegistry);
+
+        Gauge.builder("banking.circuit.state", this, breaker -> breaker.state().ordinal())
+                .description("Circuit breaker state (0=closed, 1=open, 2=half-open)")
+                .tag("endpoint", endpoint.tag())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run a call through the circuit breaker
+     *
+     * @param call Starts the call
+     * @param <T>  Result type
+     * @return Future of the call, or a future failed with {@code CIRCUIT_OPEN}
+     *         if the call was not permitted
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> call) {
+        var permit = tryAcquirePermission();
+        if (permit < 0) {
+            rejectedCounter.increment();
+            return CompletableFuture.failedFuture(new BankingClientException(
+                    "Circuit breaker open for " + endpoint.tag() + " endpoint", "CIRCUIT_OPEN"));
+        }
+
+        var startTime = System.nanoTime();
+        try {
+            var future = call.get();
+            return Futures.propagateCancellation(
+                    future.whenComplete((result, error) -> onComplete(permit, startTime, error)), future);
+        } catch (RuntimeException e) {
+            onComplete(permit, startTime, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Current state of the circuit
+     */
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * Number of calls rejected while open
+     */
+    public long rejectedCount() {
+        return (long) rejectedCounter.count();
+    }
+
+    /**
+     * Acquire permission for a call
+     *
+     * @return Generation the call was admitted in, or -1 if rejected
+     */
+    private synchronized long tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                return -1;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight + probeSuccesses >= HALF_OPEN_PROBES) {
+                return -1;
+            }
+            probesInFlight++;
+        }
+        return generation;
+    }
+
+    private synchronized void onComplete(long permit, long startTime, Throwable error) {
+        if (permit != generation) {
+            // Admitted before the last state change; the outcome no longer applies
+            return;
+        }
+
+        var cause = Futures.unwrap(error);
+        if (cause instanceof CancellationException) {
+            if (state == State.HALF_OPEN) {
+                probesInFlight--;
+            }
+            return;
+        }
+
+        var failed = isFailure(cause);
+        var slow = System.nanoTime() - startTime >= slowCallNanos;
+
+        if (state == State.HALF_OPEN) {
+            probesInFlight--;
+            if (failed || slow) {
+                transitionTo(State.OPEN);
+            } else if (++probeSuccesses >= HALF_OPEN_PROBES) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+
+        record(failed, slow);
+        if (recordedCalls >= MINIMUM_CALLS
+                && (failureCount >= rateThreshold * recordedCalls || slowCallCount >= rateThreshold * recordedCalls)) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void record(boolean failed, boolean slow) {
+        if (recordedCalls == WINDOW_SIZE) {
+            failureCount -= failures[nextSlot] ? 1 : 0;
+            slowCallCount -= slowCalls[nextSlot] ? 1 : 0;
+        } else {
+            recordedCalls++;
+        }
+        failures[nextSlot] = failed;
+        slowCalls[nextSlot] = slow;
+        failureCount += failed ? 1 : 0;
+        slowCallCount += slow ? 1 : 0;
+        nextSlot = (nextSlot + 1) % WINDOW_SIZE;
+    }
+
+    private void transitionTo(State newState) {
+        if (newState == State.OPEN && state == State.HALF_OPEN) {
+            logger.warn("Circuit breaker for {} reopened after a failed probe", endpoint.tag());
+            openedAt = System.nanoTime();
+        } else if (newState == State.OPEN) {
+            logger.warn("Circuit breaker for {} opened (failures {}/{}, slow calls {}/{})",
+                    endpoint.tag(), failureCount, recordedCalls, slowCallCount, recordedCalls);
+            openedAt = System.nanoTime();
+        } else {
+            logger.info("Circuit breaker for {} is now {}", endpoint.tag(), newState);
+        }
+
+        state = newState;
+        generation++;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        recordedCalls = 0;
+        nextSlot = 0;
+        failureCount = 0;
+        slowCallCount = 0;
+    }
+
+    /**
+     * Whether a call outcome indicates the server is unhealthy
+     *
+     * Network errors, timeouts and 5xx responses count as failures; other
+     * client errors (invalid account, insufficient funds) do not.
+     */
+    private static boolean isFailure(Throwable error) {
+        if (error == null) {
+            return false;
+        }
+        if (!(error instanceof BankingClientException bankingException)) {
+            return true;
+        }
+
+        var status = bankingException.getHttpStatus();
+        if (status.isPresent()) {
+            return status.getAsInt() == 408 || status.getAsInt() >= 500;
+        }
+        return "NETWORK_ERROR".equals(bankingException.getErrorCode());
+    }
+}
@@ -0,0 +1,72 @@
+package com.modernization.banking.resilience;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import com.modernization.banking.config.BankingClientConfiguration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Per-endpoint circuit breakers
+ *
+ * Each {@link Endpoint} gets its own breaker so a failing transfer endpoint
+ * does not stop account validation or balance reads.
+ */
+public class CircuitBreakers {
+
+    private final Map<Endpoint, CircuitBreaker> breakers;
+
+    public CircuitBreakers(BankingClientConfiguration configuration, MeterRegistry meterRegistry) {
+        this.breakers = new EnumMap<>(Endpoint.class);
+        if (configuration.enableCircuitBreaker()) {
+            for (var endpoint : Endpoint.values()) {
+                breakers.put(endpoint, new CircuitBreaker(endpoint, configuration, meterRegistry));
+            }
+        }
+    }
+
+    private CircuitBreakers() {
+        this.breakers = Map.of();
+    }
+
+    /**
+     * Circuit breakers that let every call through
+     */
+    public static CircuitBreakers disabled() {
+        return new CircuitBreakers();
+    }
+
+    /**
+     * Run a call through the endpoint's circuit breaker
+     *
+     * @param endpoint Endpoint being called
+     * @param call     Starts the call
+     * @param <T>      Result type
+     * @return Future of the call, or a future failed with {@code CIRCUIT_OPEN}
+     */
+    public <T> CompletableFuture<T> execute(Endpoint endpoint, Supplier<CompletableFuture<T>> call) {
+        var breaker = breakers.get(endpoint);
+        return breaker != null ? breaker.execute(call) : call.get();
+    }
+
+    /**
+     * Circuit breaker for an endpoint, if circuit breaking is enabled
+     */
+    public Optional<CircuitBreaker> get(Endpoint endpoint) {
+        return Optional.ofNullable(breakers.get(endpoint));
+    }
+
+    /**
+     * Current state per endpoint tag
+     */
+    public Map<String, String> states() {
+        var states = new LinkedHashMap<String, String>();
+        breakers.forEach((endpoint, breaker) -> states.put(endpoint.tag(), breaker.state().name()));
+        return states;
+    }
+}
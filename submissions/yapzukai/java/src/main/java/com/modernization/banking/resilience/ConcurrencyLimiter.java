@@ -0,0 +1,286 @@
+package com.modernization.banking.resilience;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.modernization.banking.config.BankingClientConfiguration;
+import com.modernization.banking.exception.BankingClientException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Adaptive concurrency limiter for a single endpoint
+ *
+ * The limit is sized from measured round-trip time with a gradient update:
+ * each sample is compared with a long-term RTT average, and the limit shrinks
+ * in proportion once samples exceed {@value #RTT_TOLERANCE} times that
+ * baseline, or grows by roughly its square root while latency stays flat.
+ * Overload errors (429, 503, 504, network failures) cut the limit by
+ * {@value #BACKOFF_RATIO} at most once per round trip. This keeps
+ * concurrency near the point where throughput stops increasing and only
+ * latency grows.
+ *
+ * Calls over the limit wait in a bounded FIFO queue and fail with
+ * {@code CONCURRENCY_LIMITED} when the queue is full or their wait exceeds the
+ * queue timeout. Queued calls are started from a single drain loop rather
+ * than from the completion of the call that freed the slot, so a run of calls
+ * failing synchronously (an open circuit, say) cannot recurse through the
+ * queue on one stack.
+ */
+public class ConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double LONG_RTT_ALPHA = 2.0 / 601;
+
+    private final Endpoint endpoint;
+    private final int maxLimit;
+    private final int maxQueued;
+    private final long queueTimeoutMs;
+    private final Counter rejectedCounter;
+
+    private final Deque<Pending> queue = new ArrayDeque<>();
+    // Calls granted a slot and waiting for the drain loop to start them
+    private final Deque<Pending> ready = new ArrayDeque<>();
+    private boolean draining;
+    private double limit;
+    private int inFlight;
+    private double longRttNanos;
+    private long lastDecreaseAt;
+
+    ConcurrencyLimiter(Endpoint endpoint, BankingClientConfiguration configuration, MeterRegistry meterRegistry) {
+        this.endpoint = endpoint;
+        this.maxLimit = configuration.concurrencyLimitMax();
+        this.maxQueued = configuration.concurrencyQueueSize();
+        this.queueTimeoutMs = configuration.concurrencyQueueTimeoutMs();
+        this.limit = Math.min(configuration.concurrencyLimitInitial(), maxLimit);
+
+        this.rejectedCounter = Counter.builder("banking.limiter.rejected")
+                .description("Calls rejected because the queue was full or their wait timed out")
+                .tag("endpoint", endpoint.tag())
+                .register(meterRegistry);
+
+        Gauge.builder("banking.limiter.limit", this, ConcurrencyLimiter::limit)
+                .description("Current adaptive concurrency limit")
+                .tag("endpoint", endpoint.tag())
+                .register(meterRegistry);
+
+        Gauge.builder("banking.limiter.inflight", this, ConcurrencyLimiter::inFlight)
+                .description("Calls currently in flight")
+                .tag("endpoint", endpoint.tag())
+                .register(meterRegistry);
+
+        Gauge.builder("banking.limiter.queued", this, ConcurrencyLimiter::queued)
+                .description("Calls waiting for a concurrency slot")
+                .tag("endpoint", endpoint.tag())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run a call once a concurrency slot is available
+     *
+     * @param call Starts the call
+     * @param <T>  Result type
+     * @return Future of the call, or a future failed with
+     *         {@code CONCURRENCY_LIMITED} if the queue is full or the call
+     *         waited longer than the queue timeout
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> call) {
+        var result = new CompletableFuture<T>();
+        var pending = new Pending(() -> start(call, result));
+
+        synchronized (this) {
+            if (inFlight >= (int) limit) {
+                if (queue.size() >= maxQueued) {
+                    rejectedCounter.increment();
+                    return CompletableFuture.failedFuture(new BankingClientException(
+                            "Concurrency limit reached for " + endpoint.tag() + " endpoint", "CONCURRENCY_LIMITED"));
+                }
+                queue.add(pending);
+                result.whenComplete((value, error) -> {
+                    if (result.isCancelled()) {
+                        dequeue(pending);
+                    }
+                });
+                if (queueTimeoutMs > 0) {
+                    CompletableFuture.delayedExecutor(queueTimeoutMs, TimeUnit.MILLISECONDS)
+                            .execute(() -> expire(pending, result));
+                }
+                return result;
+            }
+            inFlight++;
+        }
+
+        pending.start().run();
+        return result;
+    }
+
+    /**
+     * Current concurrency limit
+     */
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    /**
+     * Calls currently in flight
+     */
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Calls waiting for a slot
+     */
+    public synchronized int queued() {
+        return queue.size();
+    }
+
+    private <T> void start(Supplier<CompletableFuture<T>> call, CompletableFuture<T> result) {
+        if (result.isDone()) {
+            // Cancelled while queued
+            release(-1L, null);
+            return;
+        }
+
+        var startTime = System.nanoTime();
+        final CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            release(startTime, e);
+            result.completeExceptionally(e);
+            return;
+        }
+
+        future.whenComplete((value, error) -> {
+            release(startTime, error);
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value);
+            }
+        });
+        Futures.propagateCancellation(result, future);
+    }
+
+    private synchronized boolean dequeue(Pending pending) {
+        return queue.remove(pending);
+    }
+
+    private void expire(Pending pending, CompletableFuture<?> result) {
+        if (dequeue(pending)) {
+            rejectedCounter.increment();
+            result.completeExceptionally(new BankingClientException(
+                    "Timed out after " + queueTimeoutMs + "ms waiting for a concurrency slot on "
+                            + endpoint.tag() + " endpoint",
+                    "CONCURRENCY_LIMITED"));
+        }
+    }
+
+    private void release(long startTime, Throwable error) {
+        synchronized (this) {
+            inFlight--;
+            if (startTime >= 0) {
+                update(System.nanoTime() - startTime, error);
+            }
+            while (inFlight < (int) limit && !queue.isEmpty()) {
+                inFlight++;
+                ready.add(queue.poll());
+            }
+        }
+        drain();
+    }
+
+    /**
+     * Start calls that were granted a slot
+     *
+     * Only one thread runs the loop at a time. A release triggered while it
+     * runs, including one from a call that failed inside {@code start}, just
+     * adds to {@link #ready} and returns, so the stack depth stays constant
+     * however many queued calls fail synchronously.
+     */
+    private void drain() {
+        synchronized (this) {
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+        try {
+            while (true) {
+                Pending next;
+                synchronized (this) {
+                    next = ready.poll();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                next.start().run();
+            }
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                draining = false;
+            }
+            throw e;
+        }
+    }
+
+    private void update(long rttNanos, Throwable error) {
+        var cause = Futures.unwrap(error);
+        if (cause instanceof CancellationException || isCircuitOpen(cause)) {
+            // Not a measurement of the server
+            return;
+        }
+
+        var now = System.nanoTime();
+        if (isOverload(cause)) {
+            if (now - lastDecreaseAt >= longRttNanos) {
+                limit = Math.max(1.0, limit * BACKOFF_RATIO);
+                lastDecreaseAt = now;
+            }
+            return;
+        }
+
+        longRttNanos = longRttNanos == 0.0 ? rttNanos : longRttNanos + LONG_RTT_ALPHA * (rttNanos - longRttNanos);
+        if (longRttNanos > 2 * rttNanos) {
+            // Latency dropped well below the baseline; let the baseline catch up
+            longRttNanos *= 0.95;
+        }
+        if (inFlight + 1 < limit / 2) {
+            // The current limit is not being used, so latency says nothing about it
+            return;
+        }
+
+        var gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRttNanos / rttNanos));
+        var target = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(1.0, Math.min(maxLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+    }
+
+    private static boolean isCircuitOpen(Throwable error) {
+        return error instanceof BankingClientException bankingException
+                && "CIRCUIT_OPEN".equals(bankingException.getErrorCode());
+    }
+
+    private static boolean isOverload(Throwable error) {
+        if (!(error instanceof BankingClientException bankingException)) {
+            return error != null;
+        }
+        var status = bankingException.getHttpStatus();
+        if (status.isPresent()) {
+            return status.getAsInt() == 429 || status.getAsInt() == 503 || status.getAsInt() == 504;
+        }
+        return "NETWORK_ERROR".equals(bankingException.getErrorCode());
+    }
+
+    private record Pending(Runnable start) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.modernization.banking.resilience;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import com.modernization.banking.config.BankingClientConfiguration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Per-endpoint adaptive concurrency limiters
+ *
+ * Token requests are not limited: they are already single-flight per scope,
+ * so at most one is in flight for each scope.
+ */
+public class ConcurrencyLimiters {
+
+    private final Map<Endpoint, ConcurrencyLimiter> limiters;
+
+    public ConcurrencyLimiters(BankingClientConfiguration configuration, MeterRegistry meterRegistry) {
+        this.limiters = new EnumMap<>(Endpoint.class);
+        if (configuration.enableConcurrencyLimit()) {
+            for (var endpoint : Endpoint.values()) {
+                if (endpoint != Endpoint.AUTH_TOKEN) {
+                    limiters.put(endpoint, new ConcurrencyLimiter(endpoint, configuration, meterRegistry));
+                }
+            }
+        }
+    }
+
+    /**
+     * Run a call within the endpoint's concurrency limit
+     *
+     * @param endpoint Endpoint being called
+     * @param call     Starts the call
+     * @param <T>      Result type
+     * @return Future of the call, or a future failed with
+     *         {@code CONCURRENCY_LIMITED}
+     */
+    public <T> CompletableFuture<T> execute(Endpoint endpoint, Supplier<CompletableFuture<T>> call) {
+        var limiter = limiters.get(endpoint);
+        return limiter != null ? limiter.execute(call) : call.get();
+    }
+
+    /**
+     * Concurrency limiter for an endpoint, if limiting is enabled
+     */
+    public Optional<ConcurrencyLimiter> get(Endpoint endpoint) {
+        return Optional.ofNullable(limiters.get(endpoint));
+    }
+
+    /**
+     * Current concurrency limit per endpoint tag
+     */
+    public Map<String, Integer> limits() {
+        var limits = new LinkedHashMap<String, Integer>();
+        limiters.forEach((endpoint, limiter) -> limits.put(endpoint.tag(), limiter.limit()));
+        return limits;
+    }
+}
@@ -0,0 +1,38 @@
+package com.modernization.banking.resilience;
+
+/**
+ * Core banking API endpoints called by the client
+ * 
+ * Used to scope retry classification and per-endpoint resilience state and
+ * metrics
+ */
+public enum Endpoint {
+    VALIDATE("validate", true),
+    BALANCE("balance", true),
+    TRANSFER("transfer", false),
+    AUTH_TOKEN("authToken", true),
+    HISTORY("history", true);
+
+    private final String tag;
+    private final boolean idempotent;
+
+    Endpoint(String tag, boolean idempotent) {
+        this.tag = tag;
+        this.idempotent = idempotent;
+    }
+
+    /**
+     * Metric tag value for this endpoint
+     */
+    public String tag() {
+        return tag;
+    }
+
+    /**
+     * Whether repeating a request that may already have reached the server is
+     * safe
+     */
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+}
@@ -0,0 +1,46 @@
+package com.modernization.banking.resilience;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+
+/**
+ * CompletableFuture helpers shared by the resilience layers
+ */
+public final class Futures {
+
+    private Futures() {
+    }
+
+    /**
+     * Failure a dependent stage reports, without the CompletionException
+     * wrapper that CompletableFuture adds when a stage throws
+     *
+     * @param error Failure passed to a completion callback
+     * @return The wrapped cause, or {@code error} itself if it is not wrapped
+     */
+    public static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Cancel {@code source} when {@code dependent} is cancelled
+     *
+     * Cancelling a future derived with {@code thenApply}/{@code whenComplete}
+     * does not reach the future it was derived from; this forwards the
+     * cancellation so the underlying request is abandoned too.
+     *
+     * @param dependent Future handed to the caller
+     * @param source    Future the dependent was derived from
+     * @param <T>       Result type
+     * @return The dependent future
+     */
+    public static <T> CompletableFuture<T> propagateCancellation(CompletableFuture<T> dependent, Future<?> source) {
+        dependent.whenComplete((result, error) -> {
+            if (dependent.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return dependent;
+    }
+}
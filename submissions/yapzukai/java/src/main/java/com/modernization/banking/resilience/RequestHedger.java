@@ -0,0 +1,237 @@
+package com.modernization.banking.resilience;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.modernization.banking.config.BankingClientConfiguration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Hedged requests for idempotent reads
+ *
+ * If a validate or balance request has not completed after the hedge delay,
+ * a duplicate is sent and whichever succeeds first wins; the other is
+ * cancelled. The delay is either fixed ({@code hedgeDelayMs}) or the observed
+ * p95 latency of the endpoint, so roughly one request in twenty is hedged.
+ * Hedges are capped by a budget relative to request volume so a slow server
+ * does not receive twice the load.
+ */
+public class RequestHedger {
+
+    private static final int MIN_SAMPLES = 20;
+    private static final long DELAY_REFRESH_NANOS = 1_000_000_000L;
+
+    private final long fixedDelayMs;
+    private final RetryBudget hedgeBudget;
+    private final Map<Endpoint, EndpointHedging> endpoints;
+
+    public RequestHedger(BankingClientConfiguration configuration, MeterRegistry meterRegistry) {
+        this.fixedDelayMs = configuration.hedgeDelayMs();
+        this.hedgeBudget = new RetryBudget(configuration.hedgeBudgetPercent());
+        this.endpoints = new EnumMap<>(Endpoint.class);
+        if (configuration.enableHedging()) {
+            for (var endpoint : List.of(Endpoint.VALIDATE, Endpoint.BALANCE)) {
+                endpoints.put(endpoint, new EndpointHedging(endpoint, meterRegistry));
+            }
+        }
+    }
+
+    /**
+     * Run a request, hedging it if the endpoint supports hedging
+     *
+     * @param endpoint Endpoint being called
+     * @param attempt  Starts one copy of the request
+     * @param <T>      Result type
+     * @return Future completing with the first successful copy, or with the
+     *         first failure once every started copy has failed
+     */
+    public <T> CompletableFuture<T> execute(Endpoint endpoint, Supplier<CompletableFuture<T>> attempt) {
+        var hedging = endpoints.get(endpoint);
+        if (hedging == null) {
+            return attempt.get();
+        }
+
+        hedgeBudget.recordRequest();
+        var delayMs = hedging.delayMs();
+        var call = new HedgedCall<T>(hedging, attempt);
+        call.start(false);
+
+        if (delayMs.isPresent()) {
+            var delayed = CompletableFuture.delayedExecutor(delayMs.getAsLong(), TimeUnit.MILLISECONDS);
+            delayed.execute(() -> {
+                if (call.canHedge() && hedgeBudget.tryAcquireRetry()) {
+                    hedging.issuedCounter.increment();
+                    call.start(true);
+                }
+            });
+        }
+        return call.result;
+    }
+
+    /**
+     * Total number of hedge requests sent
+     */
+    public long hedgesIssued() {
+        return endpoints.values().stream().mapToLong(hedging -> (long) hedging.issuedCounter.count()).sum();
+    }
+
+    /**
+     * Number of hedge requests that completed before the primary
+     */
+    public long hedgesWon() {
+        return endpoints.values().stream().mapToLong(hedging -> (long) hedging.wonCounter.count()).sum();
+    }
+
+    /**
+     * Per-endpoint latency tracking and hedge metrics
+     */
+    private final class EndpointHedging {
+        private final Timer latency;
+        private final Counter issuedCounter;
+        private final Counter wonCounter;
+        private volatile long cachedDelayMs = -1L;
+        private volatile long refreshedAt;
+
+        EndpointHedging(Endpoint endpoint, MeterRegistry meterRegistry) {
+            this.latency = Timer.builder("banking.hedge.latency")
+                    .description("Latency of hedgeable requests, used to derive the hedge delay")
+                    .tag("endpoint", endpoint.tag())
+                    .publishPercentiles(0.95)
+                    .register(meterRegistry);
+
+            this.issuedCounter = Counter.builder("banking.hedge.issued")
+                    .description("Hedge requests sent")
+                    .tag("endpoint", endpoint.tag())
+                    .register(meterRegistry);
+
+            this.wonCounter = Counter.builder("banking.hedge.won")
+                    .description("Hedge requests that completed before the primary")
+                    .tag("endpoint", endpoint.tag())
+                    .register(meterRegistry);
+        }
+
+        /**
+         * Hedge delay, or empty while too few samples exist to estimate p95
+         */
+        OptionalLong delayMs() {
+            if (fixedDelayMs > 0) {
+                return OptionalLong.of(fixedDelayMs);
+            }
+            if (latency.count() < MIN_SAMPLES) {
+                return OptionalLong.empty();
+            }
+
+            // Percentile snapshots are not free, so refresh at most once a second
+            var now = System.nanoTime();
+            if (cachedDelayMs < 0 || now - refreshedAt >= DELAY_REFRESH_NANOS) {
+                var p95 = latency.takeSnapshot().percentileValues()[0].value(TimeUnit.MILLISECONDS);
+                cachedDelayMs = Math.max(1L, (long) Math.ceil(p95));
+                refreshedAt = now;
+            }
+            return OptionalLong.of(cachedDelayMs);
+        }
+    }
+
+    /**
+     * Race between a primary request and an optional hedge
+     */
+    private static final class HedgedCall<T> {
+        private final EndpointHedging hedging;
+        private final Supplier<CompletableFuture<T>> attempt;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final List<CompletableFuture<T>> copies = new ArrayList<>(2);
+        private int pending;
+        private boolean settled;
+        private Throwable firstError;
+
+        HedgedCall(EndpointHedging hedging, Supplier<CompletableFuture<T>> attempt) {
+            this.hedging = hedging;
+            this.attempt = attempt;
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    cancelAll();
+                }
+            });
+        }
+
+        /**
+         * Whether a hedge may still be started
+         */
+        synchronized boolean canHedge() {
+            return !settled && copies.size() == 1;
+        }
+
+        void start(boolean hedge) {
+            var startTime = System.nanoTime();
+            CompletableFuture<T> copy;
+            try {
+                copy = attempt.get();
+            } catch (RuntimeException e) {
+                copy = CompletableFuture.failedFuture(e);
+            }
+
+            boolean abandoned;
+            synchronized (this) {
+                copies.add(copy);
+                pending++;
+                abandoned = settled;
+            }
+            if (abandoned) {
+                // The race was decided while this copy was starting
+                copy.cancel(true);
+            }
+            copy.whenComplete((value, error) -> onComplete(hedge, startTime, value, error));
+        }
+
+        private void onComplete(boolean hedge, long startTime, T value, Throwable error) {
+            if (error == null) {
+                hedging.latency.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                synchronized (this) {
+                    pending--;
+                    if (settled) {
+                        return;
+                    }
+                    settled = true;
+                }
+                if (hedge) {
+                    hedging.wonCounter.increment();
+                }
+                // Cancel the loser first so callers never observe it still running
+                cancelAll();
+                result.complete(value);
+                return;
+            }
+
+            synchronized (this) {
+                pending--;
+                if (firstError == null) {
+                    firstError = error;
+                }
+                // Give up once every started copy failed; a failed primary does not wait for a hedge
+                if (settled || pending > 0) {
+                    return;
+                }
+                settled = true;
+            }
+            result.completeExceptionally(firstError);
+        }
+
+        private void cancelAll() {
+            List<CompletableFuture<T>> started;
+            synchronized (this) {
+                settled = true;
+                started = List.copyOf(copies);
+            }
+            started.forEach(copy -> copy.cancel(true));
+        }
+    }
+}
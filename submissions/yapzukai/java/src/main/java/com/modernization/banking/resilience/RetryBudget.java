@@ -0,0 +1,75 @@
+package com.modernization.banking.resilience;
+
+/**
+ * Caps retry traffic at a percentage of base request load
+ * 
+ * Requests and retries are counted over a sliding pair of fixed windows. A
+ * retry is allowed while retries stay below {@code ratio} times the number of
+ * original requests, plus a small floor so low-traffic clients can still
+ * retry. During an outage this keeps retries from multiplying the load on the
+ * server.
+ */
+public class RetryBudget {
+
+    private static final long WINDOW_MILLIS = 10_000L;
+    private static final long MIN_RETRIES_PER_WINDOW = 10L;
+
+    private final double ratio;
+
+    private long windowStart;
+    private long requests;
+    private long retries;
+    private long previousRequests;
+    private long previousRetries;
+
+    /**
+     * @param percent Maximum retries as a percentage of original requests
+     */
+    public RetryBudget(int percent) {
+        if (percent < 0) {
+            throw new IllegalArgumentException("Retry budget percentage cannot be negative");
+        }
+        this.ratio = percent / 100.0;
+        this.windowStart = System.currentTimeMillis();
+    }
+
+    /**
+     * Record an original (non-retry) request
+     */
+    public synchronized void recordRequest() {
+        roll();
+        requests++;
+    }
+
+    /**
+     * Withdraw one retry from the budget
+     * 
+     * @return True if the retry may be sent
+     */
+    public synchronized boolean tryAcquireRetry() {
+        roll();
+        var allowed = ratio * (requests + previousRequests) + MIN_RETRIES_PER_WINDOW;
+        if (retries + previousRetries < allowed) {
+            retries++;
+            return true;
+        }
+        return false;
+    }
+
+    private void roll() {
+        var now = System.currentTimeMillis();
+        if (now - windowStart < WINDOW_MILLIS) {
+            return;
+        }
+        if (now - windowStart < 2 * WINDOW_MILLIS) {
+            previousRequests = requests;
+            previousRetries = retries;
+        } else {
+            previousRequests = 0;
+            previousRetries = 0;
+        }
+        requests = 0;
+        retries = 0;
+        windowStart = now;
+    }
+}
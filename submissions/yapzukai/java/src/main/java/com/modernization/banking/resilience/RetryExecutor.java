@@ -0,0 +1,177 @@
+package com.modernization.banking.resilience;
+
+import java.net.ConnectException;
+import java.net.http.HttpConnectTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.modernization.banking.config.BankingClientConfiguration;
+import com.modernization.banking.exception.BankingClientException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Non-blocking retry executor with jittered exponential backoff
+ * 
+ * Retries are scheduled on {@link CompletableFuture#delayedExecutor} rather
+ * than sleeping, using full jitter: the n-th retry waits a random delay in
+ * {@code [0, min(cap, retryDelayMs * 2^n))}. Failures are classified per
+ * endpoint and error code, and every retry must be admitted by a shared
+ * {@link RetryBudget}.
+ */
+public class RetryExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetryExecutor.class);
+
+    private static final long MAX_BACKOFF_MS = 30_000L;
+
+    private final int maxRetries;
+    private final long baseDelayMs;
+    private final RetryBudget retryBudget;
+    private final Counter retryCounter;
+    private final Counter budgetExhaustedCounter;
+
+    public RetryExecutor(BankingClientConfiguration configuration, MeterRegistry meterRegistry) {
+        this(configuration.maxRetries(), configuration.retryDelayMs(),
+                new RetryBudget(configuration.retryBudgetPercent()), meterRegistry);
+    }
+
+    private RetryExecutor(int maxRetries, long baseDelayMs, RetryBudget retryBudget, MeterRegistry meterRegistry) {
+        this.maxRetries = maxRetries;
+        this.baseDelayMs = baseDelayMs;
+        this.retryBudget = retryBudget;
+
+        this.retryCounter = Counter.builder("banking.retries.attempted")
+                .description("Total number of retried requests")
+                .register(meterRegistry);
+
+        this.budgetExhaustedCounter = Counter.builder("banking.retries.budget_exhausted")
+                .description("Retries suppressed because the retry budget was exhausted")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Executor that never retries
+     */
+    public static RetryExecutor disabled(MeterRegistry meterRegistry) {
+        return new RetryExecutor(0, 0L, new RetryBudget(0), meterRegistry);
+    }
+
+    /**
+     * Run an asynchronous request, retrying retryable failures
+     * 
+     * @param endpoint Endpoint being called, used for classification
+     * @param attempt  Starts one attempt of the request
+     * @param <T>      Result type
+     * @return Future completing with the first successful result, or with the
+     *         last failure once retries are exhausted or not permitted
+     */
+    public <T> CompletableFuture<T> execute(Endpoint endpoint, Supplier<CompletableFuture<T>> attempt) {
+        retryBudget.recordRequest();
+        return attempt(endpoint, attempt, 0);
+    }
+
+    /**
+     * Total number of retries sent
+     */
+    public long retryCount() {
+        return (long) retryCounter.count();
+    }
+
+    private <T> CompletableFuture<T> attempt(Endpoint endpoint, Supplier<CompletableFuture<T>> attempt,
+            int retry) {
+
+        return start(attempt)
+                .handle((result, error) -> {
+                    if (error == null) {
+                        return CompletableFuture.completedFuture(result);
+                    }
+                    if (retry >= maxRetries || !isRetryable(endpoint, error)) {
+                        return CompletableFuture.<T>failedFuture(error);
+                    }
+                    if (!retryBudget.tryAcquireRetry()) {
+                        budgetExhaustedCounter.increment();
+                        logger.warn("Retry budget exhausted, not retrying {} request", endpoint.tag());
+                        return CompletableFuture.<T>failedFuture(error);
+                    }
+
+                    var delayMs = backoffDelay(retry);
+                    retryCounter.increment();
+                    logger.info("Retrying {} request in {} ms (retry {}/{}): {}",
+                            endpoint.tag(), delayMs, retry + 1, maxRetries, rootCause(error).toString());
+
+                    var delayed = CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS);
+                    return CompletableFuture.supplyAsync(() -> null, delayed)
+                            .thenCompose(ignored -> attempt(endpoint, attempt, retry + 1));
+                })
+                .thenCompose(next -> next);
+    }
+
+    private static <T> CompletableFuture<T> start(Supplier<CompletableFuture<T>> attempt) {
+        try {
+            return attempt.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Full-jitter exponential backoff
+     */
+    private long backoffDelay(int retry) {
+        var ceiling = Math.min(MAX_BACKOFF_MS, baseDelayMs << Math.min(retry, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * Decide whether a failure may be retried
+     * 
+     * Idempotent endpoints are retried on network errors, timeouts, 5xx, 408
+     * and 429 responses. Transfers are only retried when the request provably
+     * never reached the server (connection failures) or the server explicitly
+     * refused it (429, 503), so a transfer is never executed twice.
+     */
+    static boolean isRetryable(Endpoint endpoint, Throwable error) {
+        var cause = Futures.unwrap(error);
+        if (!(cause instanceof BankingClientException bankingException)) {
+            return false;
+        }
+
+        var status = bankingException.getHttpStatus();
+        if (status.isPresent()) {
+            var code = status.getAsInt();
+            if (code == 429 || code == 503) {
+                return true;
+            }
+            return endpoint.isIdempotent() && (code == 408 || code >= 500);
+        }
+
+        if (!"NETWORK_ERROR".equals(bankingException.getErrorCode())) {
+            return false;
+        }
+        return endpoint.isIdempotent() || isConnectFailure(bankingException);
+    }
+
+    private static boolean isConnectFailure(Throwable error) {
+        for (var cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof HttpConnectTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Throwable rootCause(Throwable error) {
+        var cause = error;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
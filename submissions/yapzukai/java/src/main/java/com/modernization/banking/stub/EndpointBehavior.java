@@ -0,0 +1,85 @@
+package com.modernization.banking.stub;
+
+/**
+ * Simulated behavior of one stub server endpoint
+ *
+ * @param latency              Response latency distribution, applied to
+ *                             successful and injected-error responses alike
+ * @param errorRate            Fraction of requests answered with
+ *                             {@code errorStatus} instead of being processed
+ * @param errorStatus          HTTP status of injected errors
+ * @param maxRequestsPerSecond Throughput cap; requests above it are rejected
+ *                             immediately with 429 (0 = unlimited)
+ */
+public record EndpointBehavior(
+        LatencyDistribution latency,
+        double errorRate,
+        int errorStatus,
+        double maxRequestsPerSecond) {
+
+    /**
+     * No latency, no errors, no throughput cap
+     */
+    public static final EndpointBehavior DEFAULT = new EndpointBehavior(LatencyDistribution.none(), 0.0, 503, 0.0);
+
+    public EndpointBehavior {
+        if (latency == null) {
+            throw new IllegalArgumentException("Latency distribution cannot be null");
+        }
+        if (errorRate < 0.0 || errorRate > 1.0) {
+            throw new IllegalArgumentException("Error rate must be between 0 and 1");
+        }
+        if (errorStatus < 400 || errorStatus > 599) {
+            throw new IllegalArgumentException("Error status must be a 4xx or 5xx code");
+        }
+        if (maxRequestsPerSecond < 0.0) {
+            throw new IllegalArgumentException("Throughput cap cannot be negative");
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Builder toBuilder() {
+        return new Builder()
+                .latency(latency)
+                .errorRate(errorRate)
+                .errorStatus(errorStatus)
+                .maxRequestsPerSecond(maxRequestsPerSecond);
+    }
+
+    /**
+     * Builder starting from {@link #DEFAULT}
+     */
+    public static class Builder {
+        private LatencyDistribution latency = DEFAULT.latency();
+        private double errorRate = DEFAULT.errorRate();
+        private int errorStatus = DEFAULT.errorStatus();
+        private double maxRequestsPerSecond = DEFAULT.maxRequestsPerSecond();
+
+        public Builder latency(LatencyDistribution latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        public Builder errorRate(double errorRate) {
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        public Builder errorStatus(int errorStatus) {
+            this.errorStatus = errorStatus;
+            return this;
+        }
+
+        public Builder maxRequestsPerSecond(double maxRequestsPerSecond) {
+            this.maxRequestsPerSecond = maxRequestsPerSecond;
+            return this;
+        }
+
+        public EndpointBehavior build() {
+            return new EndpointBehavior(latency, errorRate, errorStatus, maxRequestsPerSecond);
+        }
+    }
+}
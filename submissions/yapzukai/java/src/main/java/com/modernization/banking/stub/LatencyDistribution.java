@@ -0,0 +1,102 @@
+package com.modernization.banking.stub;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * Distribution of artificial response latency for the stub server
+ *
+ * Samples are drawn from a per-request generator derived from the server
+ * seed, so a run with the same seed and request order sees the same delays.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * Draw one latency
+     *
+     * @param random Generator for this request
+     * @return Latency in nanoseconds, never negative
+     */
+    long sampleNanos(RandomGenerator random);
+
+    /**
+     * Respond immediately
+     */
+    static LatencyDistribution none() {
+        return random -> 0L;
+    }
+
+    /**
+     * Constant latency
+     */
+    static LatencyDistribution fixed(Duration latency) {
+        var nanos = nonNegativeNanos(latency, "Latency");
+        return random -> nanos;
+    }
+
+    /**
+     * Latency uniformly distributed between min and max inclusive
+     */
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        var minNanos = nonNegativeNanos(min, "Minimum latency");
+        var maxNanos = nonNegativeNanos(max, "Maximum latency");
+        if (maxNanos < minNanos) {
+            throw new IllegalArgumentException("Maximum latency cannot be below minimum latency");
+        }
+        if (maxNanos == minNanos) {
+            return random -> minNanos;
+        }
+        return random -> random.nextLong(minNanos, maxNanos + 1);
+    }
+
+    /**
+     * Exponentially distributed latency with the given mean
+     */
+    static LatencyDistribution exponential(Duration mean) {
+        var meanNanos = nonNegativeNanos(mean, "Mean latency");
+        return random -> (long) (meanNanos * random.nextExponential());
+    }
+
+    /**
+     * Log-normal latency fitted to a median and 99th percentile, the usual
+     * shape of service response times
+     */
+    static LatencyDistribution logNormal(Duration median, Duration p99) {
+        var medianNanos = nonNegativeNanos(median, "Median latency");
+        var p99Nanos = nonNegativeNanos(p99, "p99 latency");
+        if (medianNanos == 0 || p99Nanos < medianNanos) {
+            throw new IllegalArgumentException("Log-normal latency needs 0 < median <= p99");
+        }
+        // p99 sits 2.326 standard deviations above the median in log space
+        var mu = Math.log(medianNanos);
+        var sigma = Math.log((double) p99Nanos / medianNanos) / 2.3263478740408408;
+        return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+    }
+
+    /**
+     * Add an occasional stall, such as a server GC pause, on top of this
+     * distribution
+     *
+     * @param probability Fraction of requests that stall
+     * @param stall       Extra latency of a stalled request
+     */
+    default LatencyDistribution withStalls(double probability, Duration stall) {
+        if (probability < 0.0 || probability > 1.0) {
+            throw new IllegalArgumentException("Stall probability must be between 0 and 1");
+        }
+        var stallNanos = nonNegativeNanos(stall, "Stall");
+        var base = this;
+        return random -> {
+            var latency = base.sampleNanos(random);
+            return random.nextDouble() < probability ? latency + stallNanos : latency;
+        };
+    }
+
+    private static long nonNegativeNanos(Duration duration, String name) {
+        if (duration == null || duration.isNegative()) {
+            throw new IllegalArgumentException(name + " cannot be negative");
+        }
+        return duration.toNanos();
+    }
+}
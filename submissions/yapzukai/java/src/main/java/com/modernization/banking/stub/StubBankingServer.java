@@ -0,0 +1,638 @@
+package com.modernization.banking.stub;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-process stand-in for the core banking API
+ *
+ * Serves {@code /authToken}, {@code /accounts},
+ * {@code /accounts/validate/{id}}, {@code /accounts/balance/{id}},
+ * {@code /transfer} and {@code /transactions/history} with the same response
+ * shapes as the real server, backed by in-memory accounts. Each endpoint can
+ * be given a latency distribution, an injected error rate and a throughput
+ * cap, so ModernBankingClient can be driven under reproducible load from
+ * tests and benchmarks without starting the real server. History can
+ * optionally honour an {@code offset} parameter, which the real server
+ * ignores, so paged iteration can be exercised beyond the first page.
+ *
+ * Delayed responses are written from a scheduler rather than by sleeping
+ * worker threads, so simulated latency does not limit concurrency.
+ *
+ * Run the hosting JVM with {@code -Dsun.net.httpserver.nodelay=true}: the
+ * JDK server writes headers and body separately, so with Nagle's algorithm
+ * every response waits out the client's delayed ACK (~40 ms on loopback).
+ * The property is JVM-wide, so it is left to the entry point to set.
+ */
+public class StubBankingServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(StubBankingServer.class);
+
+    private static final int MAX_HISTORY_LIMIT = 20;
+    private static final int DEFAULT_HISTORY_LIMIT = 10;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService responder;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<StubEndpoint, EndpointState> endpoints = new EnumMap<>(StubEndpoint.class);
+    private final long seed;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Duration tokenLifetime;
+
+    // Bank state; balances and history are guarded by the balances monitor
+    private final Map<String, Long> balances = new LinkedHashMap<>();
+    private final ArrayDeque<Map<String, Object>> history = new ArrayDeque<>();
+    private final int historyCapacity;
+    private final boolean historyOffsets;
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    private StubBankingServer(Builder builder) throws IOException {
+        this.seed = builder.seed;
+        this.tokenLifetime = builder.tokenLifetime;
+        this.historyCapacity = builder.historyCapacity;
+        this.historyOffsets = builder.historyOffsets;
+        for (var endpoint : StubEndpoint.values()) {
+            var behavior = builder.behaviors.getOrDefault(endpoint, builder.defaultBehavior);
+            endpoints.put(endpoint, new EndpointState(behavior));
+        }
+        for (var i = 0; i < builder.accounts; i++) {
+            balances.put("ACC" + (1000 + i), builder.initialBalanceCents);
+        }
+
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), builder.port), 0);
+        this.workers = Executors.newFixedThreadPool(builder.workerThreads, daemonThreads("stub-banking-worker"));
+        this.responder = Executors.newScheduledThreadPool(Math.max(1, builder.workerThreads / 2),
+                daemonThreads("stub-banking-responder"));
+        server.createContext("/", this::handle);
+        server.setExecutor(workers);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Start a stub with default behavior on a free port
+     */
+    public static StubBankingServer start() throws IOException {
+        return builder().start();
+    }
+
+    /**
+     * Base URL to configure the client with
+     */
+    public String baseUrl() {
+        return "http://127.0.0.1:" + port();
+    }
+
+    /**
+     * Port the stub is listening on
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Request counters of one endpoint since the stub started
+     */
+    public EndpointStats stats(StubEndpoint endpoint) {
+        var state = endpoints.get(endpoint);
+        return new EndpointStats(state.requests.sum(), state.injectedErrors.sum(), state.throttled.sum());
+    }
+
+    /**
+     * Current balance of an account in minor units, or null if it does not
+     * exist
+     */
+    public Long balanceCents(String accountId) {
+        synchronized (balances) {
+            return balances.get(accountId);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        responder.shutdownNow();
+        workers.shutdownNow();
+        logger.info("Stub banking server on port {} stopped", port());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        var endpoint = StubEndpoint.forPath(exchange.getRequestURI().getPath());
+        if (endpoint == null) {
+            exchange.getRequestBody().readAllBytes();
+            send(exchange, 404, json(Map.of("error", "Not found")));
+            return;
+        }
+
+        var state = endpoints.get(endpoint);
+        state.requests.increment();
+        var requestBody = exchange.getRequestBody().readAllBytes();
+
+        if (!state.tryAcquire()) {
+            state.throttled.increment();
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            send(exchange, 429, json(Map.of("error", "Too many requests", "status", "FAILED")));
+            return;
+        }
+
+        var random = new SplittableRandom(seed ^ sequence.getAndIncrement() * GOLDEN_GAMMA);
+        var behavior = state.behavior;
+        var latencyNanos = Math.max(0L, behavior.latency().sampleNanos(random));
+
+        Response response;
+        if (behavior.errorRate() > 0.0 && random.nextDouble() < behavior.errorRate()) {
+            state.injectedErrors.increment();
+            response = new Response(behavior.errorStatus(),
+                    json(Map.of("error", "Injected failure", "status", "FAILED")));
+        } else {
+            response = process(endpoint, exchange, requestBody);
+        }
+
+        if (latencyNanos == 0L) {
+            send(exchange, response.status(), response.body());
+        } else {
+            responder.schedule(() -> send(exchange, response.status(), response.body()),
+                    latencyNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Response process(StubEndpoint endpoint, HttpExchange exchange, byte[] requestBody) {
+        var path = exchange.getRequestURI().getPath();
+        var session = session(exchange);
+        try {
+            return switch (endpoint) {
+                case AUTH_TOKEN -> authToken(exchange, requestBody);
+                case ACCOUNTS -> accounts();
+                case VALIDATE -> validate(path.substring("/accounts/validate/".length()));
+                case BALANCE -> balance(path.substring("/accounts/balance/".length()), session);
+                case TRANSFER -> transfer(requestBody, session);
+                case HISTORY -> history(exchange, session);
+            };
+        } catch (IOException e) {
+            return new Response(400, json(Map.of("error", "Malformed request body", "status", "FAILED")));
+        }
+    }
+
+    private Response authToken(HttpExchange exchange, byte[] requestBody) throws IOException {
+        var request = requestBody.length == 0 ? objectMapper.createObjectNode() : objectMapper.readTree(requestBody);
+        var username = text(request, "username");
+        if (username == null || username.isBlank() || text(request, "password") == null
+                || text(request, "password").isBlank()) {
+            return new Response(400, json(Map.of(
+                    "error", "Validation failed: username and password are required",
+                    "status", "FAILED")));
+        }
+
+        var scope = "transfer".equals(queryParameter(exchange, "claim")) ? "transfer" : "enquiry";
+        var permissions = scope.equals("transfer") ? "transfer,enquiry" : "enquiry";
+        var issuedAt = Instant.now();
+        var expiresAt = issuedAt.plus(tokenLifetime);
+        var token = unsignedToken(username, scope, issuedAt, expiresAt);
+        sessions.put(token, new Session(username, scope, permissions, expiresAt));
+
+        var body = new LinkedHashMap<String, Object>();
+        body.put("token", token);
+        body.put("username", username);
+        body.put("scope", scope);
+        body.put("permissions", permissions);
+        body.put("issuedAt", issuedAt.toString());
+        body.put("expiresAt", expiresAt.toString());
+        return new Response(200, json(body));
+    }
+
+    private Response accounts() {
+        var accounts = new ArrayList<Map<String, Object>>();
+        synchronized (balances) {
+            balances.forEach((id, cents) -> {
+                var account = new LinkedHashMap<String, Object>();
+                account.put("id", id);
+                account.put("balance", money(cents));
+                accounts.add(account);
+            });
+        }
+        var body = new LinkedHashMap<String, Object>();
+        body.put("accounts", accounts);
+        body.put("totalAccounts", accounts.size());
+        return new Response(200, json(body));
+    }
+
+    private Response validate(String accountId) {
+        boolean exists;
+        synchronized (balances) {
+            exists = balances.containsKey(accountId);
+        }
+        var body = new LinkedHashMap<String, Object>();
+        body.put("accountId", accountId);
+        body.put("isValid", exists);
+        body.put("accountType", exists ? "VALID_ACCOUNT" : "NON_EXISTENT");
+        body.put("status", exists ? "ACTIVE" : "INACTIVE");
+        return new Response(200, json(body));
+    }
+
+    private Response balance(String accountId, Session session) {
+        var cents = balanceCents(accountId);
+        if (cents == null) {
+            return new Response(400, json(Map.of("accountId", accountId, "error", "Account not found or invalid")));
+        }
+        var body = new LinkedHashMap<String, Object>();
+        body.put("accountId", accountId);
+        body.put("balance", money(cents));
+        body.put("currency", "USD");
+        body.put("status", "ACTIVE");
+        if (session != null) {
+            body.put("authenticatedUser", session.username());
+            body.put("tokenScope", session.scope());
+        }
+        return new Response(200, json(body));
+    }
+
+    private Response transfer(byte[] requestBody, Session session) throws IOException {
+        var request = objectMapper.readTree(requestBody);
+        var fromAccount = text(request, "fromAccount");
+        var toAccount = text(request, "toAccount");
+        var amountNode = request.get("amount");
+        if (fromAccount == null || toAccount == null || amountNode == null || !amountNode.isNumber()
+                || amountNode.decimalValue().signum() <= 0) {
+            return new Response(400, json(Map.of(
+                    "error", "Validation failed: fromAccount, toAccount and a positive amount are required",
+                    "status", "FAILED")));
+        }
+
+        var amountCents = amountNode.decimalValue().movePointRight(2).setScale(0, RoundingMode.HALF_EVEN)
+                .longValueExact();
+        var body = new LinkedHashMap<String, Object>();
+        body.put("transactionId", UUID.randomUUID().toString());
+        body.put("fromAccount", fromAccount);
+        body.put("toAccount", toAccount);
+        body.put("amount", money(amountCents));
+        if (session != null) {
+            body.put("authenticatedUser", session.username());
+            body.put("tokenScope", session.scope());
+        }
+
+        synchronized (balances) {
+            var fromBalance = balances.get(fromAccount);
+            if (fromBalance == null || !balances.containsKey(toAccount) || fromAccount.equals(toAccount)) {
+                body.put("status", "FAILED");
+                body.put("message", "Transfer failed - invalid account(s)");
+                return new Response(200, json(body));
+            }
+            if (fromBalance < amountCents) {
+                body.put("status", "FAILED");
+                body.put("message", "Insufficient funds");
+                body.put("availableBalance", money(fromBalance));
+                return new Response(200, json(body));
+            }
+
+            balances.put(fromAccount, fromBalance - amountCents);
+            balances.merge(toAccount, amountCents, Long::sum);
+            body.put("status", "SUCCESS");
+            body.put("message", "Transfer completed successfully");
+            body.put("newFromAccountBalance", money(fromBalance - amountCents));
+
+            var record = new LinkedHashMap<String, Object>();
+            record.put("transactionId", body.get("transactionId"));
+            record.put("fromAccount", fromAccount);
+            record.put("toAccount", toAccount);
+            record.put("amount", money(amountCents));
+            record.put("status", "SUCCESS");
+            record.put("timestamp", LocalDateTime.now().toString());
+            record.put("username", session != null ? session.username() : "anonymous");
+            history.addFirst(record);
+            if (history.size() > historyCapacity) {
+                history.removeLast();
+            }
+        }
+        return new Response(200, json(body));
+    }
+
+    private Response history(HttpExchange exchange, Session session) {
+        if (session == null) {
+            return new Response(401, json(Map.of("error", "Authentication required")));
+        }
+
+        var limit = DEFAULT_HISTORY_LIMIT;
+        var limitParameter = queryParameter(exchange, "limit");
+        if (limitParameter != null) {
+            try {
+                limit = Math.max(1, Math.min(Integer.parseInt(limitParameter), MAX_HISTORY_LIMIT));
+            } catch (NumberFormatException e) {
+                return new Response(400, json(Map.of("error", "Invalid limit", "status", "FAILED")));
+            }
+        }
+
+        var offset = 0L;
+        var offsetParameter = historyOffsets ? queryParameter(exchange, "offset") : null;
+        if (offsetParameter != null) {
+            try {
+                offset = Math.max(0L, Long.parseLong(offsetParameter));
+            } catch (NumberFormatException e) {
+                return new Response(400, json(Map.of("error", "Invalid offset", "status", "FAILED")));
+            }
+        }
+
+        var allTransactions = session.scope().equals("transfer");
+        var transactions = new ArrayList<Map<String, Object>>(limit);
+        synchronized (balances) {
+            var skipped = 0L;
+            for (var record : history) {
+                if (transactions.size() == limit) {
+                    break;
+                }
+                if (allTransactions || session.username().equals(record.get("username"))) {
+                    if (skipped < offset) {
+                        skipped++;
+                    } else {
+                        transactions.add(record);
+                    }
+                }
+            }
+        }
+
+        var body = new LinkedHashMap<String, Object>();
+        body.put("transactions", transactions);
+        body.put("totalReturned", transactions.size());
+        body.put("authenticatedUser", session.username());
+        body.put("tokenScope", session.scope());
+        body.put("tokenPermissions", session.permissions());
+        body.put("viewLevel", allTransactions ? "ALL_TRANSACTIONS" : "USER_TRANSACTIONS_ONLY");
+        return new Response(200, json(body));
+    }
+
+    private Session session(HttpExchange exchange) {
+        var authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return null;
+        }
+        var session = sessions.get(authorization.substring("Bearer ".length()));
+        return session != null && Instant.now().isBefore(session.expiresAt()) ? session : null;
+    }
+
+    private void send(HttpExchange exchange, int status, byte[] body) {
+        try (exchange) {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (IOException e) {
+            // Client went away, e.g. a cancelled hedge
+            logger.debug("Stub response not delivered: {}", e.toString());
+        }
+    }
+
+    private byte[] json(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode stub response", e);
+        }
+    }
+
+    private static String text(JsonNode node, String field) {
+        var value = node.get(field);
+        return value != null && value.isTextual() ? value.asText() : null;
+    }
+
+    private static String queryParameter(HttpExchange exchange, String name) {
+        var query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (var pair : query.split("&")) {
+            var separator = pair.indexOf('=');
+            var key = separator < 0 ? pair : pair.substring(0, separator);
+            if (key.equals(name)) {
+                return separator < 0 ? "" : URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private static BigDecimal money(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    /**
+     * JWT carrying iat/exp so the client can schedule refreshes; it is not
+     * signed, so leave verifyTokenSignature disabled against the stub
+     */
+    private static String unsignedToken(String username, String scope, Instant issuedAt, Instant expiresAt) {
+        var encoder = Base64.getUrlEncoder().withoutPadding();
+        var header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+        var claims = "{\"sub\":\"" + username.replace("\"", "") + "\",\"scope\":\"" + scope
+                + "\",\"iat\":" + issuedAt.getEpochSecond() + ",\"exp\":" + expiresAt.getEpochSecond()
+                + ",\"jti\":\"" + UUID.randomUUID() + "\"}";
+        return header + "." + encoder.encodeToString(claims.getBytes(StandardCharsets.UTF_8)) + ".stub";
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        var counter = new AtomicInteger();
+        return runnable -> {
+            var thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Request counters of one endpoint
+     *
+     * @param requests       Requests received, including rejected ones
+     * @param injectedErrors Requests answered with an injected error
+     * @param throttled      Requests rejected by the throughput cap
+     */
+    public record EndpointStats(long requests, long injectedErrors, long throttled) {
+    }
+
+    private record Response(int status, byte[] body) {
+    }
+
+    private record Session(String username, String scope, String permissions, Instant expiresAt) {
+    }
+
+    /**
+     * Behavior and counters of one endpoint, with a token bucket enforcing
+     * its throughput cap
+     */
+    private static final class EndpointState {
+        private final EndpointBehavior behavior;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder injectedErrors = new LongAdder();
+        private final LongAdder throttled = new LongAdder();
+        private final double burst;
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        EndpointState(EndpointBehavior behavior) {
+            this.behavior = behavior;
+            // Allow a tenth of a second worth of requests to arrive together
+            this.burst = Math.max(1.0, behavior.maxRequestsPerSecond() / 10.0);
+            this.tokens = burst;
+        }
+
+        synchronized boolean tryAcquire() {
+            if (behavior.maxRequestsPerSecond() <= 0.0) {
+                return true;
+            }
+            var now = System.nanoTime();
+            tokens = Math.min(burst, tokens + (now - refilledAt) * behavior.maxRequestsPerSecond() / 1e9);
+            refilledAt = now;
+            if (tokens < 1.0) {
+                return false;
+            }
+            tokens -= 1.0;
+            return true;
+        }
+    }
+
+    /**
+     * Builder for stub servers
+     */
+    public static class Builder {
+        private int port = 0;
+        private int workerThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        private long seed = 42L;
+        private int accounts = 100;
+        private long initialBalanceCents = 100_000L;
+        private int historyCapacity = 1_000;
+        private boolean historyOffsets = false;
+        private Duration tokenLifetime = Duration.ofHours(1);
+        private EndpointBehavior defaultBehavior = EndpointBehavior.DEFAULT;
+        private final Map<StubEndpoint, EndpointBehavior> behaviors = new EnumMap<>(StubEndpoint.class);
+
+        /**
+         * Loopback port to listen on; 0 picks a free port
+         */
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        public Builder workerThreads(int workerThreads) {
+            this.workerThreads = workerThreads;
+            return this;
+        }
+
+        /**
+         * Seed for latency and error sampling
+         */
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Number of accounts, numbered from ACC1000
+         */
+        public Builder accounts(int accounts) {
+            this.accounts = accounts;
+            return this;
+        }
+
+        public Builder initialBalanceCents(long initialBalanceCents) {
+            this.initialBalanceCents = initialBalanceCents;
+            return this;
+        }
+
+        /**
+         * Number of most recent transfers kept for /transactions/history
+         */
+        public Builder historyCapacity(int historyCapacity) {
+            this.historyCapacity = historyCapacity;
+            return this;
+        }
+
+        /**
+         * Skip the first {@code offset} history entries when the parameter is
+         * given, unlike the real server
+         */
+        public Builder historyOffsets(boolean historyOffsets) {
+            this.historyOffsets = historyOffsets;
+            return this;
+        }
+
+        public Builder tokenLifetime(Duration tokenLifetime) {
+            this.tokenLifetime = tokenLifetime;
+            return this;
+        }
+
+        /**
+         * Behavior of endpoints without their own behavior
+         */
+        public Builder defaultBehavior(EndpointBehavior defaultBehavior) {
+            this.defaultBehavior = defaultBehavior;
+            return this;
+        }
+
+        public Builder behavior(StubEndpoint endpoint, EndpointBehavior behavior) {
+            behaviors.put(endpoint, behavior);
+            return this;
+        }
+
+        /**
+         * Bind and start the stub
+         *
+         * @throws IOException If the port cannot be bound
+         */
+        public StubBankingServer start() throws IOException {
+            if (port < 0 || port > 65535) {
+                throw new IllegalArgumentException("Port must be between 0 and 65535");
+            }
+            if (workerThreads < 1) {
+                throw new IllegalArgumentException("Worker threads must be at least 1");
+            }
+            if (accounts < 0 || initialBalanceCents < 0 || historyCapacity < 0) {
+                throw new IllegalArgumentException("Accounts, balances and history capacity cannot be negative");
+            }
+            if (tokenLifetime == null || tokenLifetime.isNegative() || tokenLifetime.isZero()) {
+                throw new IllegalArgumentException("Token lifetime must be positive");
+            }
+            if (defaultBehavior == null || behaviors.containsValue(null)) {
+                throw new IllegalArgumentException("Endpoint behavior cannot be null");
+            }
+
+            var stub = new StubBankingServer(this);
+            stub.server.start();
+            logger.info("Stub banking server listening on {}", stub.baseUrl());
+            return stub;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.modernization.banking.stub;
+
+/**
+ * Endpoints served by {@link StubBankingServer}
+ */
+public enum StubEndpoint {
+    AUTH_TOKEN,
+    ACCOUNTS,
+    VALIDATE,
+    BALANCE,
+    TRANSFER,
+    HISTORY;
+
+    /**
+     * Resolve a request path, or null if the stub does not serve it
+     */
+    static StubEndpoint forPath(String path) {
+        if (path.equals("/authToken")) {
+            return AUTH_TOKEN;
+        }
+        if (path.equals("/accounts")) {
+            return ACCOUNTS;
+        }
+        if (path.startsWith("/accounts/validate/") && path.length() > "/accounts/validate/".length()) {
+            return VALIDATE;
+        }
+        if (path.startsWith("/accounts/balance/") && path.length() > "/accounts/balance/".length()) {
+            return BALANCE;
+        }
+        if (path.equals("/transfer")) {
+            return TRANSFER;
+        }
+        if (path.equals("/transactions/history")) {
+            return HISTORY;
+        }
+        return null;
+    }
+}
@@ -1,9 +1,9 @@
 package com.modernization.banking.validation;
 
 import java.util.Set;
-import java.util.regex.Pattern;
 
 import com.modernization.banking.exception.BankingClientException;
+import com.modernization.banking.model.Money;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
@@ -12,66 +12,109 @@ import jakarta.validation.Validator;
 /**
  * Input validation and sanitization utility
  * 
- * Provides comprehensive validation for all banking client inputs
+ * Provides comprehensive validation for all banking client inputs. Instances
+ * are cheap: the Bean Validation bootstrap is shared by all of them and only
+ * runs the first time an object is validated.
  */
 public class InputValidator {
 
-    private final Validator validator;
-    private static final Pattern ACCOUNT_ID_PATTERN = Pattern.compile("^[A-Z0-9]+$");
-    private static final double MAX_AMOUNT = 1_000_000.0;
+    private static final Money MAX_AMOUNT = Money.ofMinor(100_000_000L, Money.DEFAULT_CURRENCY);
+
+    /**
+     * Holder for the shared validator; the class, and with it the factory
+     * bootstrap, is initialized on first access
+     */
+    private static final class SharedValidator {
+        private static final Validator INSTANCE = Validation.buildDefaultValidatorFactory().getValidator();
+    }
 
     public InputValidator() {
-        var factory = Validation.buildDefaultValidatorFactory();
-        this.validator = factory.getValidator();
     }
 
     /**
      * Validate and sanitize account ID
      * 
+     * Single ASCII pass without regex or intermediate strings: surrounding
+     * whitespace is trimmed and lower-case letters are upper-cased, and an
+     * ID that is already canonical is returned as the same instance without
+     * allocating. The client re-validates sanitized IDs on every nested call,
+     * so the canonical case is the common one.
+     * 
      * @param accountId Raw account ID
      * @return Sanitized account ID
      * @throws BankingClientException If account ID is invalid
      */
     public String validateAndSanitizeAccountId(String accountId) throws BankingClientException {
-        if (accountId == null || accountId.trim().isEmpty()) {
+        if (accountId == null) {
             throw new BankingClientException("Account ID cannot be null or empty", "INVALID_ACCOUNT_ID");
         }
 
-        var sanitized = accountId.trim().toUpperCase();
+        // Same whitespace rule as String.trim()
+        var start = 0;
+        var end = accountId.length();
+        while (start < end && accountId.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && accountId.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            throw new BankingClientException("Account ID cannot be null or empty", "INVALID_ACCOUNT_ID");
+        }
 
-        if (!ACCOUNT_ID_PATTERN.matcher(sanitized).matches()) {
-            throw new BankingClientException(
-                    "Account ID contains invalid characters. Only alphanumeric characters allowed.",
-                    "INVALID_ACCOUNT_ID");
+        var hasLowerCase = false;
+        for (var i = start; i < end; i++) {
+            var c = accountId.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                hasLowerCase = true;
+            } else if (!(c >= 'A' && c <= 'Z') && !(c >= '0' && c <= '9')) {
+                throw new BankingClientException(
+                        "Account ID contains invalid characters. Only alphanumeric characters allowed.",
+                        "INVALID_ACCOUNT_ID");
+            }
         }
 
-        return sanitized;
+        if (!hasLowerCase) {
+            return start == 0 && end == accountId.length() ? accountId : accountId.substring(start, end);
+        }
+        var canonical = new char[end - start];
+        for (var i = start; i < end; i++) {
+            var c = accountId.charAt(i);
+            canonical[i - start] = c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+        }
+        return new String(canonical);
     }
 
     /**
      * Validate transfer amount
      * 
+     * Amounts are exact to the minor unit already, so no rounding is applied;
+     * only {@link Money#DEFAULT_CURRENCY} is accepted by the API.
+     * 
      * @param amount Amount to validate
-     * @return Validated amount rounded to 2 decimal places
+     * @return Validated amount
      * @throws BankingClientException If amount is invalid
      */
-    public Double validateAmount(Double amount) throws BankingClientException {
+    public Money validateAmount(Money amount) throws BankingClientException {
         if (amount == null) {
             throw new BankingClientException("Amount cannot be null", "INVALID_AMOUNT");
         }
 
-        if (amount <= 0) {
+        if (!amount.currency().equals(MAX_AMOUNT.currency())) {
+            throw new BankingClientException("Unsupported currency: " + amount.currency(), "INVALID_AMOUNT");
+        }
+
+        if (!amount.isPositive()) {
             throw new BankingClientException("Amount must be positive", "INVALID_AMOUNT");
         }
 
-        if (amount > MAX_AMOUNT) {
+        if (amount.minorUnits() > MAX_AMOUNT.minorUnits()) {
             throw new BankingClientException(
-                    String.format("Amount exceeds maximum limit of %.2f", MAX_AMOUNT),
+                    "Amount exceeds maximum limit of " + MAX_AMOUNT.toBigDecimal().toPlainString(),
                     "AMOUNT_TOO_LARGE");
         }
 
-        // Round to 2 decimal places
-        return Math.round(amount * 100.0) / 100.0;
+        return amount;
     }
 
     /**
@@ -82,7 +125,7 @@ public class InputValidator {
      * @throws BankingClientException If validation fails
      */
     public <T> void validate(T object) throws BankingClientException {
-        Set<ConstraintViolation<T>> violations = validator.validate(object);
+        Set<ConstraintViolation<T>> violations = SharedValidator.INSTANCE.validate(object);
 
         if (!violations.isEmpty()) {
             var errorMessage = violations.stream()
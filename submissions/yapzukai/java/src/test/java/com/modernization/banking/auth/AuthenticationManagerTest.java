@@ -0,0 +1,89 @@
+package com.modernization.banking.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import com.modernization.banking.config.BankingClientConfiguration;
+import com.modernization.banking.json.BankingJson;
+import com.modernization.banking.stub.EndpointBehavior;
+import com.modernization.banking.stub.LatencyDistribution;
+import com.modernization.banking.stub.StubBankingServer;
+import com.modernization.banking.stub.StubEndpoint;
+
+class AuthenticationManagerTest {
+
+    @Test
+    void sharesOneTokenRequestBetweenConcurrentCallers() throws Exception {
+        var slowAuth = EndpointBehavior.builder().latency(LatencyDistribution.fixed(Duration.ofMillis(200))).build();
+        try (var server = StubBankingServer.builder().behavior(StubEndpoint.AUTH_TOKEN, slowAuth).start()) {
+            var manager = manager(server);
+            try {
+                var tokens = new ArrayList<CompletableFuture<Optional<String>>>();
+                for (var i = 0; i < 10; i++) {
+                    tokens.add(manager.obtainTokenAsync("enquiry"));
+                }
+
+                var first = tokens.get(0).join();
+                assertThat(first).isPresent();
+                assertThat(tokens).allSatisfy(token -> assertThat(token.join()).isEqualTo(first));
+                assertThat(manager.obtainToken("enquiry")).isEqualTo(first);
+                assertThat(server.stats(StubEndpoint.AUTH_TOKEN).requests()).isEqualTo(1);
+            } finally {
+                manager.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void refreshesTokenInUseBeforeItExpires() throws Exception {
+        try (var server = StubBankingServer.builder().tokenLifetime(Duration.ofSeconds(4)).start()) {
+            var manager = manager(server);
+            try {
+                assertThat(manager.obtainToken("enquiry")).isPresent();
+                // A cache hit marks the token as in use
+                assertThat(manager.obtainToken("enquiry")).isPresent();
+
+                // Usable for half of its 4 s lifetime, refreshed a quarter of that before
+                Thread.sleep(2_500);
+
+                assertThat(server.stats(StubEndpoint.AUTH_TOKEN).requests()).isEqualTo(2);
+                assertThat(manager.obtainToken("enquiry")).isPresent();
+                assertThat(server.stats(StubEndpoint.AUTH_TOKEN).requests()).isEqualTo(2);
+            } finally {
+                manager.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void letsIdleTokenExpireWithoutRefreshing() throws Exception {
+        try (var server = StubBankingServer.builder().tokenLifetime(Duration.ofSeconds(4)).start()) {
+            var manager = manager(server);
+            try {
+                assertThat(manager.obtainToken("enquiry")).isPresent();
+
+                Thread.sleep(2_500);
+
+                assertThat(server.stats(StubEndpoint.AUTH_TOKEN).requests()).isEqualTo(1);
+                assertThat(manager.getCacheStatistics()).containsEntry("scheduledRefreshes", 0);
+                // Past its usable window, so the next caller fetches a new one
+                assertThat(manager.obtainToken("enquiry")).isPresent();
+                assertThat(server.stats(StubEndpoint.AUTH_TOKEN).requests()).isEqualTo(2);
+            } finally {
+                manager.shutdown();
+            }
+        }
+    }
+
+    private static AuthenticationManager manager(StubBankingServer server) {
+        return new AuthenticationManager(BankingClientConfiguration.builder().baseUrl(server.baseUrl()).build(),
+                HttpClient.newHttpClient(), BankingJson.objectMapper());
+    }
+}
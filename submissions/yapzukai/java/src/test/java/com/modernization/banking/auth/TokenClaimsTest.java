@@ -0,0 +1,78 @@
+package com.modernization.banking.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.modernization.banking.json.BankingJson;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+class TokenClaimsTest {
+
+    private static final String SECRET = "a-test-secret-of-at-least-thirty-two-bytes";
+
+    @Test
+    void decodesLifetimeClaims() {
+        var claims = TokenClaims.decode(token("{\"sub\":\"client\",\"iat\":1700000000,\"exp\":1700003600}"),
+                BankingJson.objectMapper());
+
+        assertThat(claims).contains(new TokenClaims(Optional.of(Instant.ofEpochSecond(1_700_000_000L)),
+                Instant.ofEpochSecond(1_700_003_600L)));
+    }
+
+    @Test
+    void appliesIssuedLifetimeToLocalClock() {
+        var issuedAt = Instant.parse("2024-01-01T12:00:00Z");
+        var withIat = new TokenClaims(Optional.of(issuedAt), issuedAt.plus(Duration.ofHours(1)));
+        var withoutIat = new TokenClaims(Optional.empty(), issuedAt.plus(Duration.ofHours(1)));
+        // Client clock runs ten minutes behind the server
+        var receivedAt = issuedAt.minus(Duration.ofMinutes(10));
+
+        assertThat(withIat.localExpiry(receivedAt)).isEqualTo(receivedAt.plus(Duration.ofHours(1)));
+        assertThat(withoutIat.localExpiry(receivedAt)).isEqualTo(issuedAt.plus(Duration.ofHours(1)));
+    }
+
+    @Test
+    void ignoresTokensWithoutReadableExpiry() {
+        var objectMapper = BankingJson.objectMapper();
+
+        assertThat(TokenClaims.decode(token("{\"iat\":1700000000}"), objectMapper)).isEmpty();
+        assertThat(TokenClaims.decode(token("{\"exp\":\"tomorrow\"}"), objectMapper)).isEmpty();
+        assertThat(TokenClaims.decode("not-a-jwt", objectMapper)).isEmpty();
+        assertThat(TokenClaims.decode("a.!!!.c", objectMapper)).isEmpty();
+    }
+
+    @Test
+    void verifiesSignatureWithSharedSecret() {
+        var issuedAt = Instant.now().minusSeconds(60).truncatedTo(ChronoUnit.SECONDS);
+        var expiresAt = issuedAt.plus(Duration.ofHours(1));
+        var signed = Jwts.builder()
+                .subject("client")
+                .issuedAt(Date.from(issuedAt))
+                .expiration(Date.from(expiresAt))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThat(TokenClaims.verify(signed, SECRET)).contains(new TokenClaims(Optional.of(issuedAt), expiresAt));
+        assertThatThrownBy(() -> TokenClaims.verify(signed, SECRET.toUpperCase()))
+                .isInstanceOf(JwtException.class);
+    }
+
+    private static String token(String payload) {
+        var encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + ".signature";
+    }
+}
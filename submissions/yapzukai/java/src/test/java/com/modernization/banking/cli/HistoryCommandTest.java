@@ -0,0 +1,41 @@
+package com.modernization.banking.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import com.modernization.banking.config.BankingClientConfiguration;
+import com.modernization.banking.stub.StubBankingServer;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+class HistoryCommandTest {
+
+    @Test
+    void restoresLogLevelAfterExportToStandardOutput() throws Exception {
+        var root = (Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
+        var previous = root.getLevel();
+        root.setLevel(Level.INFO);
+        try (var server = StubBankingServer.builder().start()) {
+            var out = new StringWriter();
+            var err = new StringWriter();
+            var commandLine = BankingClientCommand.commandLine(new BankingClientCommand(
+                    BankingClientConfiguration.builder().build()));
+            commandLine.setOut(new PrintWriter(out));
+            commandLine.setErr(new PrintWriter(err));
+
+            var exitCode = commandLine.execute("--url", server.baseUrl(), "history");
+
+            assertThat(exitCode).isZero();
+            assertThat(err.toString()).contains("Exported 0 transactions");
+            assertThat(root.getLevel()).isEqualTo(Level.INFO);
+        } finally {
+            root.setLevel(previous);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.modernization.banking.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+class PagedIteratorTest {
+
+    @Test
+    void stopsAfterShortPage() {
+        var offsets = new ArrayList<Long>();
+        var iterator = new PagedIterator<Long>((offset, limit) -> {
+            offsets.add(offset);
+            return CompletableFuture.completedFuture(range(offset, Math.min(offset + limit, 7)));
+        }, 3, Function.identity());
+
+        assertThat(drain(iterator)).containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(offsets).containsExactly(0L, 3L, 6L);
+    }
+
+    @Test
+    void stopsWhenServerRepeatsPage() {
+        var fetches = new ArrayList<Long>();
+        // A server ignoring the offset returns the first page every time
+        var iterator = new PagedIterator<Long>((offset, limit) -> {
+            fetches.add(offset);
+            return CompletableFuture.completedFuture(range(0, limit));
+        }, 2, Function.identity());
+
+        assertThat(drain(iterator)).containsExactly(0L, 1L);
+        assertThat(fetches).containsExactly(0L, 2L);
+    }
+
+    @Test
+    void stopsOnEmptyPageAfterFullOne() {
+        var iterator = new PagedIterator<Long>((offset, limit) -> CompletableFuture
+                .completedFuture(range(offset, Math.min(offset + limit, 4))), 2, Function.identity());
+
+        assertThat(drain(iterator)).containsExactly(0L, 1L, 2L, 3L);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    void closeCancelsPrefetch() {
+        var prefetch = new CompletableFuture<List<Long>>();
+        var iterator = new PagedIterator<Long>((offset, limit) -> offset == 0
+                ? CompletableFuture.completedFuture(range(0, limit))
+                : prefetch, 2, Function.identity());
+
+        assertThat(iterator.next()).isZero();
+        iterator.close();
+
+        assertThat(prefetch).isCancelled();
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    private static List<Long> range(long from, long to) {
+        return LongStream.range(from, to).boxed().toList();
+    }
+
+    private static List<Long> drain(PagedIterator<Long> iterator) {
+        var elements = new ArrayList<Long>();
+        iterator.forEachRemaining(elements::add);
+        return elements;
+    }
+}
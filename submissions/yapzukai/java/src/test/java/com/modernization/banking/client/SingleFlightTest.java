@@ -0,0 +1,86 @@
+package com.modernization.banking.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.modernization.banking.config.BankingClientConfiguration;
+import com.modernization.banking.model.AccountBalance;
+import com.modernization.banking.stub.EndpointBehavior;
+import com.modernization.banking.stub.LatencyDistribution;
+import com.modernization.banking.stub.StubBankingServer;
+import com.modernization.banking.stub.StubEndpoint;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+    @Test
+    void coalescesConcurrentBalanceReadsAgainstStub() throws Exception {
+        var slow = EndpointBehavior.builder().latency(LatencyDistribution.fixed(Duration.ofMillis(200))).build();
+        try (var server = StubBankingServer.builder().behavior(StubEndpoint.BALANCE, slow).start()) {
+            var client = new ModernBankingClient(BankingClientConfiguration.builder()
+                    .baseUrl(server.baseUrl())
+                    .enableCaching(false)
+                    .build());
+            try {
+                var balances = new ArrayList<CompletableFuture<AccountBalance>>();
+                for (var i = 0; i < 10; i++) {
+                    balances.add(client.getAccountBalanceAsync("ACC1000", false));
+                }
+                CompletableFuture.allOf(balances.toArray(CompletableFuture[]::new)).join();
+
+                assertThat(server.stats(StubEndpoint.BALANCE).requests()).isEqualTo(1);
+                assertThat(balances).extracting(CompletableFuture::join).containsOnly(balances.get(0).join());
+            } finally {
+                client.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void startsNewRequestOnceLeaderCompletes() {
+        var flights = new SingleFlight<String, String>(new SimpleMeterRegistry().counter("coalesced"));
+        var loads = new AtomicInteger();
+        var leader = new CompletableFuture<String>();
+
+        var first = flights.execute("ACC1000", () -> {
+            loads.incrementAndGet();
+            return leader;
+        });
+        var follower = flights.execute("ACC1000", () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture("unused");
+        });
+        leader.complete("balance");
+
+        assertThat(first.join()).isEqualTo("balance");
+        assertThat(follower.join()).isEqualTo("balance");
+        assertThat(flights.size()).isZero();
+
+        flights.execute("ACC1000", () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture("fresh");
+        });
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void followerCancellationDoesNotCancelLeader() {
+        var coalesced = new SimpleMeterRegistry().counter("coalesced");
+        var flights = new SingleFlight<String, String>(coalesced);
+        var leader = new CompletableFuture<String>();
+
+        var first = flights.execute("ACC1000", () -> leader);
+        flights.execute("ACC1000", CompletableFuture::new).cancel(true);
+        leader.complete("balance");
+
+        assertThat(first.join()).isEqualTo("balance");
+        assertThat(coalesced.count()).isEqualTo(1.0);
+    }
+}
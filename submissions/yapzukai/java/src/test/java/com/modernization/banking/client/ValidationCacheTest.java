@@ -0,0 +1,83 @@
+package com.modernization.banking.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.modernization.banking.config.BankingClientConfiguration;
+import com.modernization.banking.stub.StubBankingServer;
+import com.modernization.banking.stub.StubEndpoint;
+
+class ValidationCacheTest {
+
+    @Test
+    void servesRepeatedValidationFromCache() throws Exception {
+        try (var server = StubBankingServer.builder().start()) {
+            var client = client(server, BankingClientConfiguration.builder());
+            try {
+                var first = client.validateAccount("ACC1000", false);
+                // Same entry once sanitized
+                var second = client.validateAccount(" acc1000 ", false);
+
+                assertThat(second).isEqualTo(first);
+                assertThat(server.stats(StubEndpoint.VALIDATE).requests()).isEqualTo(1);
+                var metrics = client.getPerformanceMetrics();
+                assertThat(metrics.cacheHits()).isEqualTo(1);
+                assertThat(metrics.cacheMisses()).isEqualTo(1);
+            } finally {
+                client.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void expiresEntriesAfterTtl() throws Exception {
+        try (var server = StubBankingServer.builder().start()) {
+            var client = client(server, BankingClientConfiguration.builder().cacheTtlSeconds(1));
+            try {
+                client.validateAccount("ACC1000", false);
+                Thread.sleep(1_200);
+                client.validateAccount("ACC1000", false);
+
+                assertThat(server.stats(StubEndpoint.VALIDATE).requests()).isEqualTo(2);
+            } finally {
+                client.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void keysEntriesByAuthenticationMode() throws Exception {
+        try (var server = StubBankingServer.builder().start()) {
+            var client = client(server, BankingClientConfiguration.builder());
+            try {
+                client.validateAccount("ACC1000", false);
+                client.validateAccount("ACC1000", true);
+
+                assertThat(server.stats(StubEndpoint.VALIDATE).requests()).isEqualTo(2);
+            } finally {
+                client.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void bypassesCacheWhenDisabled() throws Exception {
+        try (var server = StubBankingServer.builder().start()) {
+            var client = client(server, BankingClientConfiguration.builder().enableCaching(false));
+            try {
+                client.validateAccount("ACC1000", false);
+                client.validateAccount("ACC1000", false);
+
+                assertThat(server.stats(StubEndpoint.VALIDATE).requests()).isEqualTo(2);
+                assertThat(client.getPerformanceMetrics().cacheHits()).isZero();
+            } finally {
+                client.shutdown();
+            }
+        }
+    }
+
+    private static ModernBankingClient client(StubBankingServer server, BankingClientConfiguration.Builder builder) {
+        return new ModernBankingClient(builder.baseUrl(server.baseUrl()).build());
+    }
+}
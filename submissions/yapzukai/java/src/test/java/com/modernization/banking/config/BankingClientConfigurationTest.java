@@ -0,0 +1,39 @@
+package com.modernization.banking.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class BankingClientConfigurationTest {
+
+    @Test
+    void legacyConstructorTakesRemainingSettingsFromBuilder() {
+        var legacy = new BankingClientConfiguration("http://bank.example", 5, 20, 2, 500L, "secret", "DEBUG",
+                false, false);
+
+        assertThat(legacy).isEqualTo(BankingClientConfiguration.builder()
+                .baseUrl("http://bank.example")
+                .connectTimeout(5)
+                .requestTimeout(20)
+                .maxRetries(2)
+                .retryDelayMs(500L)
+                .jwtSecret("secret")
+                .logLevel("DEBUG")
+                .enableMetrics(false)
+                .enableCaching(false)
+                .build());
+    }
+
+    @Test
+    void toBuilderRoundTrips() {
+        var configuration = BankingClientConfiguration.builder()
+                .useVirtualThreads(true)
+                .enableConcurrencyLimit(true)
+                .concurrencyQueueTimeoutMs(250L)
+                .hedgeDelayMs(15L)
+                .maxResponseBytes(1_024L)
+                .build();
+
+        assertThat(configuration.toBuilder().build()).isEqualTo(configuration);
+    }
+}
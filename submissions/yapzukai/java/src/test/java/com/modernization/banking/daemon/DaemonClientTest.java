@@ -0,0 +1,49 @@
+package com.modernization.banking.daemon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class DaemonClientTest {
+
+    @Test
+    void forwardsOutputToGivenWriters() throws Exception {
+        var directory = Files.createTempDirectory(Path.of("/tmp"), "daemon");
+        var socket = directory.resolve("test.sock");
+        try (var server = DaemonServer.start(socket, (arguments, workingDirectory, out, err) -> {
+            out.println("ran " + String.join(" ", arguments));
+            err.println("from " + workingDirectory);
+            return 3;
+        })) {
+            var out = new StringWriter();
+            var err = new StringWriter();
+
+            var exitCode = DaemonClient.forward(socket, List.of("daemon", "--stop"), new PrintWriter(out),
+                    new PrintWriter(err));
+
+            assertThat(exitCode).hasValue(3);
+            assertThat(out.toString()).isEqualTo("ran daemon --stop" + System.lineSeparator());
+            assertThat(err.toString()).startsWith("from " + Path.of("").toAbsolutePath());
+        } finally {
+            Files.deleteIfExists(socket);
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    void runsInProcessWithoutDaemon() throws Exception {
+        var out = new StringWriter();
+
+        var exitCode = DaemonClient.forward(Path.of("/tmp", "no-such-banking-daemon.sock"), List.of("--health"),
+                new PrintWriter(out), new PrintWriter(new StringWriter()));
+
+        assertThat(exitCode).isEmpty();
+        assertThat(out.toString()).isEmpty();
+    }
+}
@@ -0,0 +1,40 @@
+package com.modernization.banking.daemon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class DaemonProtocolTest {
+
+    @Test
+    void roundTripsArgumentsNeedingEscapes() {
+        var arguments = List.of("transfer", "say \"hi\"", "C:\\temp\\out.csv", "two\nlines", "tab\there", "\u0001",
+                "caf\u00e9", "");
+
+        var line = DaemonProtocol.encodeArguments(arguments);
+
+        assertThat(line).doesNotContain("\n").doesNotContain("\t");
+        assertThat(DaemonProtocol.decodeArguments(line)).isEqualTo(arguments);
+    }
+
+    @Test
+    void decodesStandardJsonEscapes() {
+        assertThat(DaemonProtocol.decodeArguments(" [ \"a\\/b\" , \"\\u0041\\b\\f\" ] "))
+                .containsExactly("a/b", "A\b\f");
+        assertThat(DaemonProtocol.decodeArguments("[]")).isEmpty();
+    }
+
+    @Test
+    void rejectsMalformedRequests() {
+        assertThatIllegalArgumentException().isThrownBy(() -> DaemonProtocol.decodeArguments("--health"));
+        assertThatIllegalArgumentException().isThrownBy(() -> DaemonProtocol.decodeArguments("[\"open"));
+        assertThatIllegalArgumentException().isThrownBy(() -> DaemonProtocol.decodeArguments("[\"a\\"));
+        assertThatIllegalArgumentException().isThrownBy(() -> DaemonProtocol.decodeArguments("[\"\\u00\"]"));
+        assertThatIllegalArgumentException().isThrownBy(() -> DaemonProtocol.decodeArguments("[\"\\q\"]"));
+        assertThatIllegalArgumentException().isThrownBy(() -> DaemonProtocol.decodeArguments("[\"a\"] extra"));
+        assertThatIllegalArgumentException().isThrownBy(() -> DaemonProtocol.decodeArguments("[1]"));
+    }
+}
@@ -0,0 +1,94 @@
+package com.modernization.banking.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.modernization.banking.model.AccountBalance;
+import com.modernization.banking.model.AccountValidationResult;
+import com.modernization.banking.model.Money;
+import com.modernization.banking.model.TransactionRecord;
+import com.modernization.banking.model.TransferResult;
+
+class BankingJsonTest {
+
+    private static final String VALIDATION = """
+            {"accountId":"ACC1000","isValid":true,"accountType":"CHECKING","status":"ACTIVE",
+             "links":{"self":"/accounts/ACC1000","owners":[{"id":1},{"id":2}]}}""";
+    private static final String BALANCE = """
+            {"accountId":"ACC1000","balance":1234567890123.455,"currency":"USD",
+             "lastUpdated":"2024-03-01T10:15:30Z","holds":[]}""";
+    private static final String TRANSFER = """
+            {"transactionId":"TX1","status":"SUCCESS","message":"Transfer completed","fromAccount":"ACC1000",
+             "toAccount":"ACC1001","amount":"0.10","timestamp":"2024-03-01T10:15:30Z","fees":null}""";
+
+    @Test
+    void decodesLikeObjectMapper() throws Exception {
+        var objectMapper = BankingJson.objectMapper();
+
+        assertThat(BankingJson.readAccountValidationResult(bytes(VALIDATION)))
+                .isEqualTo(objectMapper.readValue(VALIDATION, AccountValidationResult.class));
+        assertThat(BankingJson.readAccountBalance(bytes(BALANCE)))
+                .isEqualTo(objectMapper.readValue(BALANCE, AccountBalance.class));
+        assertThat(BankingJson.readTransferResult(bytes(TRANSFER)))
+                .isEqualTo(objectMapper.readValue(TRANSFER, TransferResult.class));
+    }
+
+    @Test
+    void keepsAmountsExact() throws Exception {
+        var balance = BankingJson.readAccountBalance(bytes(BALANCE));
+
+        // Half-even to the cent, with no binary floating-point step
+        assertThat(balance.amount()).isEqualTo(Money.ofMinor(123_456_789_012_346L, Money.DEFAULT_CURRENCY));
+        assertThat(BankingJson.readTransferResult(bytes(TRANSFER)).amount())
+                .isEqualTo(Money.ofMinor(10, Money.DEFAULT_CURRENCY));
+    }
+
+    @Test
+    void rejectsMistypedFields() {
+        assertThatThrownBy(() -> BankingJson.readAccountBalance(bytes("[]")))
+                .isInstanceOf(JsonParseException.class);
+        assertThatThrownBy(() -> BankingJson.readAccountBalance(bytes("{\"balance\":\"lots\"}")))
+                .isInstanceOf(JsonParseException.class);
+        assertThatThrownBy(() -> BankingJson.readAccountValidationResult(bytes("{\"isValid\":[true]}")))
+                .isInstanceOf(JsonParseException.class);
+        assertThatThrownBy(() -> BankingJson.readTransferResult(bytes("{\"amount\":1e40}")))
+                .isInstanceOf(JsonParseException.class);
+    }
+
+    @Test
+    void roundTripsHistoryRecords() throws Exception {
+        var complete = new TransactionRecord("TX1", "ACC1000", "ACC1001",
+                Money.ofMinor(15_025, Money.DEFAULT_CURRENCY), "SUCCESS",
+                Optional.of(LocalDateTime.parse("2024-03-01T10:15:30")), Optional.of("modern_client"));
+        var sparse = new TransactionRecord("TX2", "ACC1001", "ACC1000", null, "FAILED", Optional.empty(),
+                Optional.empty());
+
+        var out = new StringWriter();
+        try (var generator = BankingJson.generator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("transactions");
+            BankingJson.writeTransactionRecord(generator, complete);
+            BankingJson.writeTransactionRecord(generator, sparse);
+            generator.writeEndArray();
+            generator.writeNumberField("totalReturned", 2);
+            generator.writeEndObject();
+        }
+
+        assertThat(out.toString()).doesNotContain("null");
+        assertThat(BankingJson.readTransactionHistory(new ByteArrayInputStream(bytes(out.toString()))))
+                .containsExactly(complete, sparse);
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,100 @@
+package com.modernization.banking.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+class JsonBodyTest {
+
+    private static final byte[] PAYLOAD = "{\"balance\":\"150.25\",\"note\":\"café\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/sized", exchange -> {
+            exchange.sendResponseHeaders(200, PAYLOAD.length);
+            try (var body = exchange.getResponseBody()) {
+                body.write(PAYLOAD);
+            }
+        });
+        // A zero length makes the server stream the body chunked, without a Content-Length
+        server.createContext("/chunked", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (var body = exchange.getResponseBody()) {
+                for (var b : PAYLOAD) {
+                    body.write(b);
+                    body.flush();
+                }
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void keepsBodyWithinLimit() throws Exception {
+        for (var path : new String[] { "/sized", "/chunked" }) {
+            var body = fetch(path, PAYLOAD.length);
+
+            assertThat(body.size()).isEqualTo(PAYLOAD.length);
+            assertThat(body.text()).isEqualTo(new String(PAYLOAD, StandardCharsets.UTF_8));
+            // Each stream starts from the beginning
+            assertThat(body.inputStream().readAllBytes()).isEqualTo(PAYLOAD);
+            assertThat(body.inputStream().readAllBytes()).isEqualTo(PAYLOAD);
+        }
+    }
+
+    @Test
+    void refusesDeclaredLengthOverLimit() {
+        assertThatThrownBy(() -> fetch("/sized", PAYLOAD.length - 1))
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(JsonBody.TooLargeException.class)
+                .hasMessageContaining("Content-Length " + PAYLOAD.length);
+    }
+
+    @Test
+    void cutsOffStreamedBodyOverLimit() {
+        assertThatThrownBy(() -> fetch("/chunked", 8))
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(JsonBody.TooLargeException.class)
+                .hasMessage("Response body exceeds limit of 8 bytes");
+    }
+
+    @Test
+    void rejectsLimitsOutsideIntRange() {
+        assertThatIllegalArgumentException().isThrownBy(() -> JsonBody.handler(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> JsonBody.handler(Integer.MAX_VALUE + 1L));
+        assertThat(JsonBody.handler(Integer.MAX_VALUE)).isNotNull();
+    }
+
+    // Asynchronous like the client, so the failure is not rewrapped by send()
+    private JsonBody fetch(String path, long maxBytes) {
+        var uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + path);
+        return httpClient.sendAsync(HttpRequest.newBuilder(uri).build(), JsonBody.handler(maxBytes)).join().body();
+    }
+}
@@ -0,0 +1,65 @@
+package com.modernization.banking.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import com.modernization.banking.client.ModernBankingClient;
+
+class LoadGeneratorTest {
+
+    @Test
+    void measuresLatencyFromScheduledSendTime() throws Exception {
+        var client = mock(ModernBankingClient.class);
+        // Each call holds up the generator thread for 50 ms, five times the 10 ms schedule
+        when(client.getAccountBalanceAsync(anyString(), anyBoolean())).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return CompletableFuture.completedFuture(null);
+        });
+
+        var report = new LoadGenerator(client, profile(100.0, Duration.ofMillis(200), 10), interval -> {
+        }).run();
+
+        assertThat(report.sent()).isEqualTo(20);
+        assertThat(report.completed()).isEqualTo(20);
+        assertThat(report.dropped()).isZero();
+        // The last request was due at 190 ms but only went out after 19 stalls of 50 ms
+        assertThat(report.corrected().maxMs()).isGreaterThan(600.0);
+        assertThat(report.uncorrected().maxMs()).isLessThan(300.0);
+        assertThat(report.corrected().p50Ms()).isGreaterThan(report.uncorrected().p50Ms());
+    }
+
+    @Test
+    void dropsRequestsOverOutstandingLimit() throws Exception {
+        var client = mock(ModernBankingClient.class);
+        when(client.getAccountBalanceAsync(anyString(), anyBoolean())).thenReturn(new CompletableFuture<>());
+
+        var report = new LoadGenerator(client, profile(200.0, Duration.ofMillis(100), 1), interval -> {
+        }).run();
+
+        assertThat(report.sent()).isEqualTo(1);
+        assertThat(report.dropped()).isEqualTo(19);
+        assertThat(report.completed()).isZero();
+        assertThat(report.unfinished()).isEqualTo(1);
+    }
+
+    private static LoadProfile profile(double ratePerSecond, Duration duration, int maxOutstanding) {
+        return LoadProfile.builder()
+                .ratePerSecond(ratePerSecond)
+                .duration(duration)
+                .warmup(Duration.ZERO)
+                .mix(Map.of(LoadOperation.BALANCE, 1))
+                .useAuth(false)
+                .maxOutstanding(maxOutstanding)
+                .drainTimeout(Duration.ofMillis(100))
+                .build();
+    }
+}
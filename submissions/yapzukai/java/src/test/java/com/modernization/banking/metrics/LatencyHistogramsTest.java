@@ -0,0 +1,52 @@
+package com.modernization.banking.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.modernization.banking.resilience.Endpoint;
+
+class LatencyHistogramsTest {
+
+    @Test
+    void splitsByStatusClassAndOmitsIdleEndpoints() {
+        var histograms = new LatencyHistograms();
+        histograms.record(Endpoint.BALANCE, 200, millis(10));
+        histograms.record(Endpoint.BALANCE, 404, millis(2));
+        histograms.record(Endpoint.BALANCE, 999, millis(1));
+        histograms.recordError(Endpoint.BALANCE, millis(5_000));
+
+        var snapshot = histograms.snapshot();
+
+        assertThat(snapshot.byEndpoint()).containsOnlyKeys(Endpoint.BALANCE.tag());
+        assertThat(snapshot.byStatusClass().get(Endpoint.BALANCE.tag())).containsOnlyKeys("2xx", "4xx", "error");
+        assertThat(snapshot.byStatusClass().get(Endpoint.BALANCE.tag()).get("error").count()).isEqualTo(2);
+        assertThat(snapshot.byEndpoint().get(Endpoint.BALANCE.tag()).count()).isEqualTo(4);
+        assertThat(snapshot.byEndpoint().get(Endpoint.BALANCE.tag()).maxMs()).isCloseTo(5_000.0, within(5.0));
+    }
+
+    @Test
+    void accumulatesAcrossSnapshots() {
+        var histograms = new LatencyHistograms();
+        for (var i = 1; i <= 100; i++) {
+            histograms.record(Endpoint.TRANSFER, 201, millis(i));
+        }
+        histograms.snapshot();
+        histograms.record(Endpoint.TRANSFER, 201, millis(1_000));
+
+        var transfers = histograms.snapshot().byEndpoint().get(Endpoint.TRANSFER.tag());
+
+        assertThat(transfers.count()).isEqualTo(101);
+        // Three significant digits
+        assertThat(transfers.p50Ms()).isCloseTo(51.0, within(0.1));
+        assertThat(transfers.p99Ms()).isCloseTo(100.0, within(0.1));
+        assertThat(transfers.maxMs()).isCloseTo(1_000.0, within(1.0));
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
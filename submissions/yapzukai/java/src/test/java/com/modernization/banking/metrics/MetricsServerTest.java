@@ -0,0 +1,50 @@
+package com.modernization.banking.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.junit.jupiter.api.Test;
+
+class MetricsServerTest {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void bindsLoopbackByDefault() throws Exception {
+        try (var server = MetricsServer.start(null, 0, () -> "")) {
+            assertThat(server.address().getAddress().isLoopbackAddress()).isTrue();
+        }
+    }
+
+    @Test
+    void servesScrapeOutput() throws Exception {
+        try (var server = MetricsServer.start(null, 0, () -> "banking_up 1\n")) {
+            var response = httpClient.send(HttpRequest.newBuilder(metricsUri(server)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.headers().firstValue("Content-Type")).contains(PrometheusTextFormat.CONTENT_TYPE);
+            assertThat(response.body()).isEqualTo("banking_up 1\n");
+        }
+    }
+
+    @Test
+    void rejectsOtherMethods() throws Exception {
+        try (var server = MetricsServer.start(null, 0, () -> "")) {
+            var response = httpClient.send(HttpRequest.newBuilder(metricsUri(server))
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build(), HttpResponse.BodyHandlers.discarding());
+
+            assertThat(response.statusCode()).isEqualTo(405);
+            assertThat(response.headers().firstValue("Allow")).contains("GET, HEAD");
+        }
+    }
+
+    private static URI metricsUri(MetricsServer server) {
+        return URI.create("http://127.0.0.1:" + server.address().getPort() + "/metrics");
+    }
+}
@@ -0,0 +1,46 @@
+package com.modernization.banking.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.modernization.banking.resilience.Endpoint;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+
+class PrometheusTextFormatTest {
+
+    @Test
+    void appendsLatencySummaryAfterRegistryMeters() {
+        var registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        Timer.builder("banking.response.time").tag("endpoint", "balance").register(registry)
+                .record(20, TimeUnit.MILLISECONDS);
+        var latencies = new LatencyHistograms();
+        latencies.record(Endpoint.BALANCE, 200, TimeUnit.MILLISECONDS.toNanos(10));
+        latencies.record(Endpoint.BALANCE, 200, TimeUnit.MILLISECONDS.toNanos(30));
+        latencies.record(Endpoint.BALANCE, 503, TimeUnit.MILLISECONDS.toNanos(5));
+
+        var text = PrometheusTextFormat.format(registry, latencies.snapshot());
+
+        assertThat(text).contains("banking_response_time_seconds_count{endpoint=\"balance\",} 1.0");
+        assertThat(text.lines().filter(line -> line.equals("# TYPE banking_request_latency_seconds summary")))
+                .hasSize(1);
+        assertThat(text.lines().filter(line -> line.equals("# TYPE banking_request_latency_seconds_max gauge")))
+                .hasSize(1);
+        assertThat(text).contains("banking_request_latency_seconds_count{endpoint=\"balance\",status=\"2xx\"} 2.0");
+        assertThat(text).contains("banking_request_latency_seconds_sum{endpoint=\"balance\",status=\"2xx\"} 0.04");
+        assertThat(text).contains("banking_request_latency_seconds_count{endpoint=\"balance\",status=\"5xx\"} 1.0");
+    }
+
+    @Test
+    void omitsLatencyFamiliesWithoutSamples() {
+        var text = PrometheusTextFormat.format(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT),
+                new LatencyHistograms().snapshot());
+
+        assertThat(text).doesNotContain("banking_request_latency_seconds");
+    }
+}
@@ -0,0 +1,68 @@
+package com.modernization.banking.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+import org.junit.jupiter.api.Test;
+
+import com.modernization.banking.json.BankingJson;
+
+class MoneyTest {
+
+    private static final Currency USD = Money.DEFAULT_CURRENCY;
+
+    @Test
+    void parsesExactAmounts() {
+        assertThat(Money.parse(" 150.25 ", USD)).isEqualTo(Money.ofMinor(15_025, USD));
+        assertThat(Money.parse("7", USD).minorUnits()).isEqualTo(700);
+        assertThat(Money.parse("-0.10", USD).minorUnits()).isEqualTo(-10);
+        assertThat(Money.parse("1", Currency.getInstance("JPY")).minorUnits()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsMalformedAmounts() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Money.parse("12,50", USD))
+                .withMessage("Invalid amount: 12,50");
+        assertThatIllegalArgumentException().isThrownBy(() -> Money.parse(null, USD))
+                .withMessage("Invalid amount: null");
+        assertThatIllegalArgumentException().isThrownBy(() -> Money.parse("0.001", USD))
+                .withMessageContaining("more than 2 decimal places");
+    }
+
+    @Test
+    void roundsOnlyWhenAsked() {
+        var amount = new BigDecimal("2.345");
+
+        assertThat(Money.of(amount, USD, RoundingMode.HALF_EVEN).minorUnits()).isEqualTo(234);
+        assertThat(Money.of(amount, USD, RoundingMode.HALF_UP).minorUnits()).isEqualTo(235);
+        assertThatIllegalArgumentException().isThrownBy(() -> Money.of(amount, USD));
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1e30"), USD, RoundingMode.HALF_EVEN))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void keepsArithmeticExactAndCurrencySafe() {
+        var sum = Money.parse("0.10", USD).plus(Money.parse("0.20", USD));
+
+        assertThat(sum).isEqualTo(Money.parse("0.30", USD));
+        assertThat(sum.toString()).isEqualTo("0.30 USD");
+        assertThat(Money.zero(USD).minus(sum).isNegative()).isTrue();
+        assertThatIllegalArgumentException().isThrownBy(() -> sum.plus(Money.zero(Currency.getInstance("EUR"))));
+        assertThatThrownBy(() -> Money.ofMinor(Long.MAX_VALUE, USD).plus(Money.ofMinor(1, USD)))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void roundTripsThroughJsonWithoutFloatingPoint() throws Exception {
+        var mapper = BankingJson.objectMapper();
+
+        assertThat(mapper.writeValueAsString(Money.parse("1234567890123.45", USD))).isEqualTo("1234567890123.45");
+        assertThat(mapper.readValue("0.1", Money.class).minorUnits()).isEqualTo(10);
+        assertThat(mapper.readValue("2.345", Money.class).minorUnits()).isEqualTo(234);
+    }
+}
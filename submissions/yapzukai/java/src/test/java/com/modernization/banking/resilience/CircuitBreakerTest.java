@@ -0,0 +1,128 @@
+package com.modernization.banking.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.Test;
+
+import com.modernization.banking.client.ModernBankingClient;
+import com.modernization.banking.config.BankingClientConfiguration;
+import com.modernization.banking.exception.BankingClientException;
+import com.modernization.banking.stub.EndpointBehavior;
+import com.modernization.banking.stub.StubBankingServer;
+import com.modernization.banking.stub.StubEndpoint;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CircuitBreakerTest {
+
+    private static final long OPEN_MS = 50L;
+
+    @Test
+    void opensAfterServerErrorsAndStopsSendingRequests() throws Exception {
+        var failing = EndpointBehavior.builder().errorRate(1.0).errorStatus(503).build();
+        try (var server = StubBankingServer.builder().behavior(StubEndpoint.BALANCE, failing).start()) {
+            var client = new ModernBankingClient(BankingClientConfiguration.builder()
+                    .baseUrl(server.baseUrl())
+                    .maxRetries(0)
+                    .enableCaching(false)
+                    .circuitBreakerOpenMs(60_000L)
+                    .build());
+            try {
+                for (var i = 0; i < 10; i++) {
+                    assertThat(errorCode(client.getAccountBalanceAsync("ACC1000", false))).isEqualTo("BALANCE_ERROR");
+                }
+
+                assertThat(errorCode(client.getAccountBalanceAsync("ACC1000", false))).isEqualTo("CIRCUIT_OPEN");
+                assertThat(server.stats(StubEndpoint.BALANCE).requests()).isEqualTo(10);
+            } finally {
+                client.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void closesAfterSuccessfulProbes() throws Exception {
+        var breaker = openBreaker();
+        assertThatThrownBy(() -> breaker.execute(() -> CompletableFuture.completedFuture("ok")).join())
+                .hasCauseInstanceOf(BankingClientException.class);
+        assertThat(breaker.rejectedCount()).isEqualTo(1);
+
+        Thread.sleep(OPEN_MS * 2);
+        breaker.execute(() -> CompletableFuture.completedFuture("ok")).join();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.execute(() -> CompletableFuture.completedFuture("ok")).join();
+        breaker.execute(() -> CompletableFuture.completedFuture("ok")).join();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void limitsProbesWhileHalfOpen() throws Exception {
+        var breaker = openBreaker();
+        Thread.sleep(OPEN_MS * 2);
+
+        var probes = new CompletableFuture<?>[3];
+        for (var i = 0; i < probes.length; i++) {
+            probes[i] = breaker.execute(CompletableFuture::new);
+        }
+        assertThat(errorCode(breaker.execute(() -> CompletableFuture.completedFuture("ok")))).isEqualTo("CIRCUIT_OPEN");
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void reopensOnFailedProbe() throws Exception {
+        var breaker = openBreaker();
+        Thread.sleep(OPEN_MS * 2);
+
+        breaker.execute(CircuitBreakerTest::serverError).exceptionally(error -> null).join();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(errorCode(breaker.execute(() -> CompletableFuture.completedFuture("ok")))).isEqualTo("CIRCUIT_OPEN");
+    }
+
+    @Test
+    void ignoresClientErrors() {
+        var breaker = new CircuitBreaker(Endpoint.BALANCE, configuration(), new SimpleMeterRegistry());
+        for (var i = 0; i < 20; i++) {
+            breaker.execute(() -> CompletableFuture.failedFuture(
+                    new BankingClientException("Account not found", "ACCOUNT_NOT_FOUND", 404)))
+                    .exceptionally(error -> null)
+                    .join();
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private static CircuitBreaker openBreaker() {
+        var breaker = new CircuitBreaker(Endpoint.BALANCE, configuration(), new SimpleMeterRegistry());
+        for (var i = 0; i < 10; i++) {
+            breaker.execute(CircuitBreakerTest::serverError).exceptionally(error -> null).join();
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        return breaker;
+    }
+
+    private static BankingClientConfiguration configuration() {
+        return BankingClientConfiguration.builder()
+                .circuitBreakerOpenMs(OPEN_MS)
+                .build();
+    }
+
+    private static CompletableFuture<Object> serverError() {
+        return CompletableFuture.failedFuture(
+                new BankingClientException("Service unavailable", "BALANCE_ERROR", 503));
+    }
+
+    private static String errorCode(CompletableFuture<?> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BankingClientException cause) {
+                return cause.getErrorCode();
+            }
+            throw e;
+        }
+        throw new AssertionError("Expected the call to fail");
+    }
+}
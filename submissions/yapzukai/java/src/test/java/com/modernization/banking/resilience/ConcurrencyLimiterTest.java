@@ -0,0 +1,134 @@
+package com.modernization.banking.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.modernization.banking.client.ModernBankingClient;
+import com.modernization.banking.config.BankingClientConfiguration;
+import com.modernization.banking.exception.BankingClientException;
+import com.modernization.banking.stub.EndpointBehavior;
+import com.modernization.banking.stub.LatencyDistribution;
+import com.modernization.banking.stub.StubBankingServer;
+import com.modernization.banking.stub.StubEndpoint;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConcurrencyLimiterTest {
+
+    @Test
+    void isDisabledByDefault() {
+        assertThat(BankingClientConfiguration.defaultConfiguration().enableConcurrencyLimit()).isFalse();
+    }
+
+    @Test
+    void drainsDeepQueueOfSynchronousFailures() {
+        var limiter = limiter(BankingClientConfiguration.builder()
+                .concurrencyLimitInitial(1)
+                .concurrencyQueueSize(10_000)
+                .concurrencyQueueTimeoutMs(0L));
+
+        var first = new CompletableFuture<String>();
+        var firstResult = limiter.execute(() -> first);
+        var queued = new ArrayList<CompletableFuture<String>>();
+        for (var i = 0; i < 10_000; i++) {
+            queued.add(limiter.execute(() -> CompletableFuture.failedFuture(
+                    new BankingClientException("Too many requests", "BALANCE_ERROR", 429))));
+        }
+        assertThat(limiter.queued()).isEqualTo(10_000);
+
+        // Each queued call fails as soon as it starts, releasing its slot to the next
+        first.complete("done");
+
+        assertThat(firstResult.join()).isEqualTo("done");
+        assertThat(queued).allMatch(CompletableFuture::isCompletedExceptionally);
+        assertThat(limiter.inFlight()).isZero();
+        assertThat(limiter.queued()).isZero();
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() {
+        var limiter = limiter(BankingClientConfiguration.builder()
+                .concurrencyLimitInitial(1)
+                .concurrencyQueueSize(0));
+
+        limiter.execute(CompletableFuture::new);
+
+        assertThat(errorCode(limiter.execute(() -> CompletableFuture.completedFuture("ok"))))
+                .isEqualTo("CONCURRENCY_LIMITED");
+    }
+
+    @Test
+    void failsQueuedCallAfterQueueTimeout() {
+        var limiter = limiter(BankingClientConfiguration.builder()
+                .concurrencyLimitInitial(1)
+                .concurrencyQueueTimeoutMs(50L));
+
+        limiter.execute(CompletableFuture::new);
+        var waiting = limiter.execute(() -> CompletableFuture.completedFuture("ok"));
+
+        assertThat(errorCode(waiting.orTimeout(5, TimeUnit.SECONDS))).isEqualTo("CONCURRENCY_LIMITED");
+        assertThat(limiter.queued()).isZero();
+        assertThat(limiter.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void lowersLimitOnOverload() {
+        var limiter = limiter(BankingClientConfiguration.builder()
+                .concurrencyLimitInitial(10));
+
+        limiter.execute(() -> CompletableFuture.failedFuture(
+                new BankingClientException("Service unavailable", "BALANCE_ERROR", 503)))
+                .exceptionally(error -> null)
+                .join();
+
+        assertThat(limiter.limit()).isEqualTo(9);
+    }
+
+    @Test
+    void completesEveryRequestAgainstSlowServer() throws Exception {
+        var slow = EndpointBehavior.builder().latency(LatencyDistribution.fixed(Duration.ofMillis(5))).build();
+        try (var server = StubBankingServer.builder().behavior(StubEndpoint.BALANCE, slow).start()) {
+            var client = new ModernBankingClient(BankingClientConfiguration.builder()
+                    .baseUrl(server.baseUrl())
+                    .enableCaching(false)
+                    .enableConcurrencyLimit(true)
+                    .concurrencyLimitInitial(2)
+                    .build());
+            try {
+                var balances = new ArrayList<CompletableFuture<?>>();
+                for (var i = 0; i < 50; i++) {
+                    balances.add(client.getAccountBalanceAsync("ACC" + (1000 + i), false));
+                }
+                CompletableFuture.allOf(balances.toArray(CompletableFuture[]::new)).join();
+
+                assertThat(server.stats(StubEndpoint.BALANCE).requests()).isEqualTo(50);
+            } finally {
+                client.shutdown();
+            }
+        }
+    }
+
+    private static ConcurrencyLimiter limiter(BankingClientConfiguration.Builder configuration) {
+        return new ConcurrencyLimiter(Endpoint.BALANCE, configuration.enableConcurrencyLimit(true).build(),
+                new SimpleMeterRegistry());
+    }
+
+    private static String errorCode(CompletableFuture<?> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BankingClientException cause) {
+                return cause.getErrorCode();
+            }
+            throw e;
+        }
+        throw new AssertionError("Expected the call to fail");
+    }
+}
@@ -0,0 +1,109 @@
+package com.modernization.banking.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.modernization.banking.client.ModernBankingClient;
+import com.modernization.banking.config.BankingClientConfiguration;
+import com.modernization.banking.stub.EndpointBehavior;
+import com.modernization.banking.stub.StubBankingServer;
+import com.modernization.banking.stub.StubEndpoint;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RequestHedgerTest {
+
+    @Test
+    void hedgeAnswersStalledRequestAgainstStub() throws Exception {
+        var stallNext = new AtomicBoolean();
+        var stalledSecond = EndpointBehavior.builder()
+                .latency(random -> stallNext.getAndSet(false) ? Duration.ofSeconds(2).toNanos() : 0L)
+                .build();
+        try (var server = StubBankingServer.builder().behavior(StubEndpoint.BALANCE, stalledSecond).start()) {
+            var client = new ModernBankingClient(BankingClientConfiguration.builder()
+                    .baseUrl(server.baseUrl())
+                    .enableCaching(false)
+                    .enableHedging(true)
+                    .hedgeDelayMs(200L)
+                    .build());
+            try {
+                // Warm up the connection; the stall then hits whichever copy arrives first
+                client.getAccountBalanceAsync("ACC1001", false).join();
+                var issued = client.getMeterRegistry().get("banking.hedge.issued").tag("endpoint", "balance").counter();
+                var issuedBefore = issued.count();
+                var requestsBefore = server.stats(StubEndpoint.BALANCE).requests();
+                stallNext.set(true);
+
+                var startTime = System.nanoTime();
+                client.getAccountBalanceAsync("ACC1000", false).get(1, TimeUnit.SECONDS);
+
+                assertThat(System.nanoTime() - startTime).isLessThan(Duration.ofSeconds(1).toNanos());
+                assertThat(server.stats(StubEndpoint.BALANCE).requests() - requestsBefore).isEqualTo(2);
+                // Either copy may reach the stub first, so only the hedge being sent is certain
+                assertThat(issued.count() - issuedBefore).isEqualTo(1.0);
+            } finally {
+                client.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void cancelsLosingCopy() {
+        var hedger = hedger();
+        var primary = new CompletableFuture<String>();
+        var attempts = new AtomicInteger();
+
+        var result = hedger.execute(Endpoint.BALANCE,
+                () -> attempts.getAndIncrement() == 0 ? primary : CompletableFuture.completedFuture("hedge"));
+
+        assertThat(result.orTimeout(5, TimeUnit.SECONDS).join()).isEqualTo("hedge");
+        assertThat(primary).isCancelled();
+        assertThat(hedger.hedgesIssued()).isEqualTo(1);
+        assertThat(hedger.hedgesWon()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotHedgeFastPrimary() throws Exception {
+        var hedger = hedger();
+        var attempts = new AtomicInteger();
+
+        var result = hedger.execute(Endpoint.BALANCE, () -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.completedFuture("primary");
+        });
+
+        assertThat(result.join()).isEqualTo("primary");
+        Thread.sleep(100);
+        assertThat(attempts).hasValue(1);
+        assertThat(hedger.hedgesIssued()).isZero();
+    }
+
+    @Test
+    void neverHedgesTransfers() throws Exception {
+        var hedger = hedger();
+        var attempts = new AtomicInteger();
+
+        var result = hedger.execute(Endpoint.TRANSFER, () -> {
+            attempts.incrementAndGet();
+            return new CompletableFuture<String>();
+        });
+
+        Thread.sleep(100);
+        assertThat(result).isNotDone();
+        assertThat(attempts).hasValue(1);
+    }
+
+    private static RequestHedger hedger() {
+        return new RequestHedger(BankingClientConfiguration.builder()
+                .enableHedging(true)
+                .hedgeDelayMs(20L)
+                .build(), new SimpleMeterRegistry());
+    }
+}
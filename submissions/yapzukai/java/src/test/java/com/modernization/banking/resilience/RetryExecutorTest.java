@@ -0,0 +1,87 @@
+package com.modernization.banking.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.modernization.banking.client.ModernBankingClient;
+import com.modernization.banking.config.BankingClientConfiguration;
+import com.modernization.banking.exception.BankingClientException;
+import com.modernization.banking.stub.EndpointBehavior;
+import com.modernization.banking.stub.StubBankingServer;
+import com.modernization.banking.stub.StubEndpoint;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RetryExecutorTest {
+
+    @Test
+    void stopsRetryingOnceBudgetIsExhausted() throws Exception {
+        var failing = EndpointBehavior.builder().errorRate(1.0).errorStatus(503).build();
+        try (var server = StubBankingServer.builder().behavior(StubEndpoint.BALANCE, failing).start()) {
+            var client = new ModernBankingClient(BankingClientConfiguration.builder()
+                    .baseUrl(server.baseUrl())
+                    .maxRetries(1)
+                    .retryBudgetPercent(0)
+                    .enableCaching(false)
+                    .enableCircuitBreaker(false)
+                    .build());
+            try {
+                var balances = new ArrayList<CompletableFuture<?>>();
+                for (var i = 0; i < 20; i++) {
+                    balances.add(client.getAccountBalanceAsync("ACC" + (1000 + i), false)
+                            .exceptionally(error -> null));
+                }
+                CompletableFuture.allOf(balances.toArray(CompletableFuture[]::new)).join();
+
+                // With a 0% budget only the per-window minimum of 10 retries is allowed
+                var registry = client.getMeterRegistry();
+                assertThat(registry.counter("banking.retries.attempted").count()).isEqualTo(10.0);
+                assertThat(registry.counter("banking.retries.budget_exhausted").count()).isEqualTo(10.0);
+                assertThat(server.stats(StubEndpoint.BALANCE).requests()).isEqualTo(30);
+            } finally {
+                client.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void retriesUntilSuccess() {
+        var executor = new RetryExecutor(BankingClientConfiguration.builder().maxRetries(3).build(),
+                new SimpleMeterRegistry());
+        var attempts = new AtomicInteger();
+
+        var result = executor.execute(Endpoint.BALANCE, () -> attempts.incrementAndGet() < 3
+                ? CompletableFuture.failedFuture(new BankingClientException("Bad gateway", "BALANCE_ERROR", 502))
+                : CompletableFuture.completedFuture("ok"));
+
+        assertThat(result.join()).isEqualTo("ok");
+        assertThat(attempts).hasValue(3);
+        assertThat(executor.retryCount()).isEqualTo(2);
+    }
+
+    @Test
+    void retriesTransfersOnlyWhenServerRefusedThem() {
+        assertThat(RetryExecutor.isRetryable(Endpoint.TRANSFER, httpError(500))).isFalse();
+        assertThat(RetryExecutor.isRetryable(Endpoint.TRANSFER, httpError(503))).isTrue();
+        assertThat(RetryExecutor.isRetryable(Endpoint.TRANSFER, httpError(429))).isTrue();
+        assertThat(RetryExecutor.isRetryable(Endpoint.BALANCE, httpError(500))).isTrue();
+        assertThat(RetryExecutor.isRetryable(Endpoint.BALANCE, httpError(404))).isFalse();
+    }
+
+    @Test
+    void ignoresIntegerDetailsWhenClassifying() {
+        var error = new BankingClientException("Rejected", "TRANSFER_ERROR", null, 503);
+
+        assertThat(error.getHttpStatus()).isEmpty();
+        assertThat(RetryExecutor.isRetryable(Endpoint.TRANSFER, error)).isFalse();
+    }
+
+    private static BankingClientException httpError(int status) {
+        return new BankingClientException("Request failed with status: " + status, "HTTP_ERROR", status);
+    }
+}
@@ -0,0 +1,39 @@
+package com.modernization.banking.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import com.modernization.banking.exception.BankingClientException;
+
+class InputValidatorTest {
+
+    private final InputValidator validator = new InputValidator();
+
+    @Test
+    void returnsCanonicalIdAsSameInstance() throws Exception {
+        var accountId = "ACC1000";
+
+        assertThat(validator.validateAndSanitizeAccountId(accountId)).isSameAs(accountId);
+    }
+
+    @Test
+    void trimsAndUpperCasesAsciiOnly() throws Exception {
+        assertThat(validator.validateAndSanitizeAccountId("  acc1000\t")).isEqualTo("ACC1000");
+        assertThat(validator.validateAndSanitizeAccountId("\nACC1000 ")).isEqualTo("ACC1000");
+        assertThat(validator.validateAndSanitizeAccountId("AcC9z")).isEqualTo("ACC9Z");
+    }
+
+    @Test
+    void rejectsEmptyAndNonAlphanumericIds() {
+        for (var accountId : new String[] { null, "", "  \t", "ACC-1000", "ACC 1000", "ACC1000;", "ÄCC1000",
+                "ACC１０００" }) {
+            assertThatThrownBy(() -> validator.validateAndSanitizeAccountId(accountId))
+                    .as("account ID %s", accountId)
+                    .isInstanceOf(BankingClientException.class)
+                    .extracting(error -> ((BankingClientException) error).getErrorCode())
+                    .isEqualTo("INVALID_ACCOUNT_ID");
+        }
+    }
+}